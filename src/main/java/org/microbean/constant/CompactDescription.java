@@ -0,0 +1,436 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DirectMethodHandleDesc;
+import java.lang.constant.DynamicConstantDesc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compact, immutable representation of a {@link ConstantDesc} tree, such as one returned by one of the {@code
+ * describeConstable} methods of {@link Constables}, suitable for retaining large descriptions in memory.
+ *
+ * <p>Every {@link DynamicConstantDesc} with at least one bootstrap argument is a <em>node</em>.  Every other {@link
+ * ConstantDesc} is a <em>constant</em>.  Nodes are not retained as objects.  Instead, each node is an index into a
+ * table of distinct <em>signatures</em>, each of which records a bootstrap method, constant name and constant type,
+ * together with the number of bootstrap arguments and which of them are nodes.  A node's arguments follow, in flat
+ * arrays, those of the node before it: constant arguments as references to the constants themselves, and node
+ * arguments as indices of other nodes.  Structurally equal nodes are held once, as are equal constants.  A node
+ * therefore retains one {@code int} plus one {@code int} or reference per argument, rather than a {@link
+ * DynamicConstantDesc} and its own array of arguments.</p>
+ *
+ * <p>A {@link CompactDescription} can be {@linkplain #expand() expanded} into an equal {@link ConstantDesc} on demand,
+ * or its nodes can be {@linkplain #accept(Visitor) streamed}, children before parents, to a {@link Visitor}, such as a
+ * class file writer building a constant pool, without being expanded at all.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_parent">Laird Nelson</a>
+ *
+ * @see #of(ConstantDesc)
+ *
+ * @see #expand()
+ *
+ * @see #accept(Visitor)
+ */
+public final class CompactDescription {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  // Distinct signatures, as parallel arrays.
+  private final DirectMethodHandleDesc[] bootstrapMethods;
+
+  private final String[] names;
+
+  private final ClassDesc[] types;
+
+  private final int[] arities;
+
+  // For each signature, a bit set of the argument positions that hold nodes.
+  private final long[][] nodePositions;
+
+  // For each node, the index of its signature.  Nodes are ordered so that every node follows its node arguments, and the
+  // root, if there is one, is last.
+  private final int[] signatures;
+
+  // The node arguments of every node, in node order; each is the index of a node.
+  private final int[] nodeArguments;
+
+  // The constant arguments of every node, in node order.
+  private final ConstantDesc[] constantArguments;
+
+  // The number of distinct constants.
+  private final int constantCount;
+
+  // The ConstantDesc described if it is a constant, or null if it is the last node.
+  private final ConstantDesc constant;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private CompactDescription(final Builder b, final ConstantDesc constant) {
+    super();
+    final int signatureCount = b.bootstrapMethods.size();
+    this.bootstrapMethods = b.bootstrapMethods.toArray(new DirectMethodHandleDesc[signatureCount]);
+    this.names = b.names.toArray(new String[signatureCount]);
+    this.types = b.types.toArray(new ClassDesc[signatureCount]);
+    this.arities = new int[signatureCount];
+    this.nodePositions = new long[signatureCount][];
+    for (int i = 0; i < signatureCount; i++) {
+      this.arities[i] = b.arities.get(i);
+      this.nodePositions[i] = b.nodePositions.get(i);
+    }
+    this.signatures = Arrays.copyOf(b.signatures, b.nodeCount);
+    this.nodeArguments = Arrays.copyOf(b.nodeArguments, b.nodeArgumentCount);
+    this.constantArguments = Arrays.copyOf(b.constantArguments, b.constantArgumentCount);
+    this.constantCount = b.constantIndices.size();
+    this.constant = constant;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the number of distinct nodes in this {@link CompactDescription}.
+   *
+   * @return the number of distinct nodes; always {@code 0} or greater
+   */
+  public final int nodeCount() {
+    return this.signatures.length;
+  }
+
+  /**
+   * Returns the number of distinct constants in this {@link CompactDescription}.
+   *
+   * @return the number of distinct constants; always {@code 0} or greater
+   */
+  public final int constantCount() {
+    return this.constantCount;
+  }
+
+  /**
+   * Returns a {@link ConstantDesc} {@linkplain Object#equals(Object) equal to} the one from which this {@link
+   * CompactDescription} was {@linkplain #of(ConstantDesc) created}.
+   *
+   * <p>Structurally equal subtrees of the returned {@link ConstantDesc} are shared.  Each call creates new {@link
+   * DynamicConstantDesc}s, so callers that only need the result briefly need not retain it.</p>
+   *
+   * @return a {@link ConstantDesc}; never {@code null}
+   *
+   * @microbean.idempotency This method is idempotent and deterministic.
+   *
+   * @microbean.threadsafety This method is safe for concurrent use by multiple threads.
+   */
+  public final ConstantDesc expand() {
+    return this.accept(new Visitor<ConstantDesc>() {
+        @Override
+        public final ConstantDesc constant(final ConstantDesc constant) {
+          return constant;
+        }
+
+        @Override
+        public final ConstantDesc dynamic(final DirectMethodHandleDesc bootstrapMethod,
+                                          final String name,
+                                          final ClassDesc type,
+                                          final List<ConstantDesc> arguments) {
+          return DynamicConstantDesc.ofCanonical(bootstrapMethod, name, type, arguments.toArray(new ConstantDesc[0]));
+        }
+      });
+  }
+
+  /**
+   * Streams this {@link CompactDescription} to the supplied {@link Visitor} and returns the result the {@link Visitor}
+   * produced for its root.
+   *
+   * <p>Each occurrence of a constant is supplied to {@link Visitor#constant(ConstantDesc)} before the node that refers
+   * to it.  Equal constants are supplied as the same instance.  Each distinct node is supplied to {@link
+   * Visitor#dynamic(DirectMethodHandleDesc, String, ClassDesc, List)} exactly once, after all of its arguments, together
+   * with the results the {@link Visitor} produced for those arguments.</p>
+   *
+   * @param <T> the type of result the {@link Visitor} produces
+   *
+   * @param visitor the {@link Visitor}; must not be {@code null}
+   *
+   * @return the result the {@link Visitor} produced for the root; may be {@code null}
+   *
+   * @exception NullPointerException if {@code visitor} is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public final <T> T accept(final Visitor<T> visitor) {
+    Objects.requireNonNull(visitor, "visitor");
+    if (this.constant != null) {
+      return visitor.constant(this.constant);
+    }
+    final Object[] results = new Object[this.signatures.length];
+    int nodeArgument = 0;
+    int constantArgument = 0;
+    for (int node = 0; node < results.length; node++) {
+      final int signature = this.signatures[node];
+      final int arity = this.arities[signature];
+      final long[] nodePositions = this.nodePositions[signature];
+      final List<T> args = new ArrayList<>(arity);
+      for (int i = 0; i < arity; i++) {
+        if ((nodePositions[i >>> 6] & (1L << i)) != 0L) {
+          args.add((T)results[this.nodeArguments[nodeArgument++]]);
+        } else {
+          args.add(visitor.constant(this.constantArguments[constantArgument++]));
+        }
+      }
+      results[node] = visitor.dynamic(this.bootstrapMethods[signature], this.names[signature], this.types[signature], args);
+    }
+    return (T)results[results.length - 1];
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  /**
+   * Returns a {@link CompactDescription} representing the supplied {@link ConstantDesc}.
+   *
+   * @param cd the {@link ConstantDesc}; must not be {@code null}
+   *
+   * @return a {@link CompactDescription}; never {@code null}
+   *
+   * @exception NullPointerException if {@code cd} is {@code null}
+   *
+   * @microbean.threadsafety This method is safe for concurrent use by multiple threads.
+   */
+  public static final CompactDescription of(final ConstantDesc cd) {
+    final Builder b = new Builder();
+    final int reference = b.reference(Objects.requireNonNull(cd, "cd"));
+    return new CompactDescription(b, reference < 0 ? b.constants.get(~reference) : null);
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  /**
+   * A visitor of the constants and nodes of a {@link CompactDescription}.
+   *
+   * @param <T> the type of result produced for each constant and node
+   *
+   * @author <a href="https://about.me/lairdnelson" target="_parent">Laird Nelson</a>
+   *
+   * @see CompactDescription#accept(Visitor)
+   */
+  public static interface Visitor<T> {
+
+    /**
+     * Visits a constant, i.e. a {@link ConstantDesc} that is not a {@link DynamicConstantDesc} with bootstrap arguments,
+     * and returns a result for it.
+     *
+     * @param constant the constant; never {@code null}
+     *
+     * @return a result; may be {@code null}
+     */
+    public T constant(final ConstantDesc constant);
+
+    /**
+     * Visits a node, i.e. a {@link DynamicConstantDesc} with bootstrap arguments, and returns a result for it.
+     *
+     * @param bootstrapMethod the node's bootstrap method; never {@code null}
+     *
+     * @param name the node's constant name; never {@code null}
+     *
+     * @param type the node's constant type; never {@code null}
+     *
+     * @param arguments the results previously returned for the node's bootstrap arguments, in order; never {@code null}
+     *
+     * @return a result; may be {@code null}
+     */
+    public T dynamic(final DirectMethodHandleDesc bootstrapMethod, final String name, final ClassDesc type, final List<T> arguments);
+
+  }
+
+  // Accumulates the tables of a CompactDescription while walking a ConstantDesc tree.  References to nodes are their
+  // indices; a reference r to a constant is ~r, where r is the constant's index in constants.
+  private static final class Builder {
+
+    private final List<ConstantDesc> constants;
+
+    private final Map<ConstantDesc, Integer> constantIndices;
+
+    private final List<DirectMethodHandleDesc> bootstrapMethods;
+
+    private final List<String> names;
+
+    private final List<ClassDesc> types;
+
+    private final List<Integer> arities;
+
+    private final List<long[]> nodePositions;
+
+    private final Map<List<Object>, Integer> signatureIndices;
+
+    private final Map<Node, Integer> nodeIndices;
+
+    // Shared subtrees of the source tree need only be walked once.
+    private final Map<ConstantDesc, Integer> references;
+
+    private int[] signatures;
+
+    private int nodeCount;
+
+    private int[] nodeArguments;
+
+    private int nodeArgumentCount;
+
+    private ConstantDesc[] constantArguments;
+
+    private int constantArgumentCount;
+
+    private Builder() {
+      super();
+      this.constants = new ArrayList<>();
+      this.constantIndices = new HashMap<>();
+      this.bootstrapMethods = new ArrayList<>();
+      this.names = new ArrayList<>();
+      this.types = new ArrayList<>();
+      this.arities = new ArrayList<>();
+      this.nodePositions = new ArrayList<>();
+      this.signatureIndices = new HashMap<>();
+      this.nodeIndices = new HashMap<>();
+      this.references = new IdentityHashMap<>();
+      this.signatures = new int[16];
+      this.nodeArguments = new int[16];
+      this.constantArguments = new ConstantDesc[64];
+    }
+
+    private final int reference(final ConstantDesc cd) {
+      final Integer existing = this.references.get(cd);
+      if (existing != null) {
+        return existing;
+      }
+      final int reference;
+      final ConstantDesc[] args = cd instanceof DynamicConstantDesc<?> dcd ? dcd.bootstrapArgs() : null;
+      if (args == null || args.length == 0) {
+        // Includes DynamicConstantDescs without bootstrap arguments, such as ConstantDescs.NULL and Enum.EnumDescs,
+        // which are retained as-is.
+        reference = ~this.constantIndices.computeIfAbsent(cd, this::addConstant);
+      } else {
+        final DynamicConstantDesc<?> dcd = (DynamicConstantDesc<?>)cd;
+        final int[] argReferences = new int[args.length];
+        final long[] nodePositions = new long[(args.length + 63) >>> 6];
+        for (int i = 0; i < args.length; i++) {
+          argReferences[i] = this.reference(args[i]);
+          if (argReferences[i] >= 0) {
+            nodePositions[i >>> 6] |= 1L << i;
+          }
+        }
+        final List<Object> signatureKey =
+          List.of(dcd.bootstrapMethod(), dcd.constantName(), dcd.constantType(), args.length, Arrays.toString(nodePositions));
+        final int signature = this.signatureIndices.computeIfAbsent(signatureKey, k -> this.addSignature(dcd, nodePositions));
+        reference = this.nodeIndices.computeIfAbsent(new Node(signature, argReferences), this::addNode);
+      }
+      this.references.put(cd, reference);
+      return reference;
+    }
+
+    private final int addConstant(final ConstantDesc cd) {
+      this.constants.add(cd);
+      return this.constants.size() - 1;
+    }
+
+    private final int addSignature(final DynamicConstantDesc<?> dcd, final long[] nodePositions) {
+      this.bootstrapMethods.add(dcd.bootstrapMethod());
+      this.names.add(dcd.constantName());
+      this.types.add(dcd.constantType());
+      this.arities.add(dcd.bootstrapArgs().length);
+      this.nodePositions.add(nodePositions);
+      return this.bootstrapMethods.size() - 1;
+    }
+
+    private final int addNode(final Node node) {
+      if (this.nodeCount == this.signatures.length) {
+        this.signatures = Arrays.copyOf(this.signatures, this.nodeCount * 2);
+      }
+      this.signatures[this.nodeCount] = node.signature;
+      for (final int reference : node.arguments) {
+        if (reference >= 0) {
+          if (this.nodeArgumentCount == this.nodeArguments.length) {
+            this.nodeArguments = Arrays.copyOf(this.nodeArguments, this.nodeArgumentCount * 2);
+          }
+          this.nodeArguments[this.nodeArgumentCount++] = reference;
+        } else {
+          if (this.constantArgumentCount == this.constantArguments.length) {
+            this.constantArguments = Arrays.copyOf(this.constantArguments, this.constantArgumentCount * 2);
+          }
+          // The first of any equal constants, so that equal constants are retained once.
+          this.constantArguments[this.constantArgumentCount++] = this.constants.get(~reference);
+        }
+      }
+      return this.nodeCount++;
+    }
+
+  }
+
+  // A key identifying structurally equal nodes while building.
+  private static final class Node {
+
+    private final int signature;
+
+    private final int[] arguments;
+
+    private final int hashCode;
+
+    private Node(final int signature, final int[] arguments) {
+      super();
+      this.signature = signature;
+      this.arguments = arguments;
+      this.hashCode = 31 * signature + Arrays.hashCode(arguments);
+    }
+
+    @Override
+    public final int hashCode() {
+      return this.hashCode;
+    }
+
+    @Override
+    public final boolean equals(final Object other) {
+      if (other == this) {
+        return true;
+      } else if (other != null && other.getClass() == this.getClass()) {
+        final Node her = (Node)other;
+        return this.signature == her.signature && Arrays.equals(this.arguments, her.arguments);
+      } else {
+        return false;
+      }
+    }
+
+  }
+
+}
@@ -1,6 +1,6 @@
 /* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
  *
- * Copyright © 2022–2023 microBean™.
+ * Copyright © 2022–2026 microBean™.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License.  You may obtain a copy of the License at
@@ -21,36 +21,84 @@ import java.lang.constant.DynamicConstantDesc;
 import java.lang.constant.MethodHandleDesc;
 import java.lang.constant.MethodTypeDesc;
 
+import java.lang.reflect.Field;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.UUID;
 
 import java.util.function.Function;
 
+import static java.lang.constant.ConstantDescs.BSM_GET_STATIC_FINAL;
 import static java.lang.constant.ConstantDescs.BSM_INVOKE;
 import static java.lang.constant.ConstantDescs.CD_Collection;
 import static java.lang.constant.ConstantDescs.CD_List;
 import static java.lang.constant.ConstantDescs.CD_Map;
 import static java.lang.constant.ConstantDescs.CD_Object;
 import static java.lang.constant.ConstantDescs.CD_Set;
+import static java.lang.constant.ConstantDescs.CD_String;
+import static java.lang.constant.ConstantDescs.CD_int;
+import static java.lang.constant.ConstantDescs.CD_long;
+import static java.lang.constant.ConstantDescs.DEFAULT_NAME;
 import static java.lang.constant.ConstantDescs.NULL;
+import static java.lang.constant.ConstantDescs.ofConstantBootstrap;
 
 import static org.microbean.constant.ConstantDescs.CD_Arrays;
+import static org.microbean.constant.ConstantDescs.CD_BigDecimal;
+import static org.microbean.constant.ConstantDescs.CD_BigInteger;
 import static org.microbean.constant.ConstantDescs.CD_Collections;
 import static org.microbean.constant.ConstantDescs.CD_Comparator;
+import static org.microbean.constant.ConstantDescs.CD_ConstantBootstraps;
+import static org.microbean.constant.ConstantDescs.CD_Duration;
 import static org.microbean.constant.ConstantDescs.CD_Entry;
 import static org.microbean.constant.ConstantDescs.CD_HashSet;
+import static org.microbean.constant.ConstantDescs.CD_Instant;
+import static org.microbean.constant.ConstantDescs.CD_LocalDate;
+import static org.microbean.constant.ConstantDescs.CD_LocalDateTime;
+import static org.microbean.constant.ConstantDescs.CD_LocalTime;
+import static org.microbean.constant.ConstantDescs.CD_MonthDay;
+import static org.microbean.constant.ConstantDescs.CD_OffsetDateTime;
+import static org.microbean.constant.ConstantDescs.CD_OffsetTime;
 import static org.microbean.constant.ConstantDescs.CD_Optional;
+import static org.microbean.constant.ConstantDescs.CD_Period;
 import static org.microbean.constant.ConstantDescs.CD_SimpleImmutableEntry;
 import static org.microbean.constant.ConstantDescs.CD_SortedMap;
 import static org.microbean.constant.ConstantDescs.CD_SortedSet;
+import static org.microbean.constant.ConstantDescs.CD_UUID;
+import static org.microbean.constant.ConstantDescs.CD_Year;
+import static org.microbean.constant.ConstantDescs.CD_YearMonth;
+import static org.microbean.constant.ConstantDescs.CD_ZoneId;
+import static org.microbean.constant.ConstantDescs.CD_ZoneOffset;
+import static org.microbean.constant.ConstantDescs.CD_ZonedDateTime;
 
 /**
  * A utility class containing {@code static} methods that can describe various things in {@link Constable} ways.
@@ -72,6 +120,46 @@ public final class Constables {
 
   private static final ConstantDesc[] EMPTY_CONSTANTDESC_ARRAY = new ConstantDesc[0];
 
+  private static final DirectMethodHandleDesc BSM_BIG_INTEGER =
+    ofConstantBootstrap(CD_ConstantBootstraps, "bigInteger", CD_BigInteger, CD_int, CD_long.arrayType());
+
+  private static final DirectMethodHandleDesc BSM_LIST =
+    ofConstantBootstrap(CD_ConstantBootstraps, "list", CD_List, CD_Object.arrayType());
+
+  private static final DirectMethodHandleDesc BSM_SET =
+    ofConstantBootstrap(CD_ConstantBootstraps, "set", CD_Set, CD_Object.arrayType());
+
+  private static final DirectMethodHandleDesc BSM_MAP =
+    ofConstantBootstrap(CD_ConstantBootstraps, "map", CD_Map, CD_Object.arrayType());
+
+  private static final DirectMethodHandleDesc BSM_ENTRY =
+    ofConstantBootstrap(CD_ConstantBootstraps, "entry", CD_Entry, CD_Object, CD_Object);
+
+  private static final DirectMethodHandleDesc BSM_OPTIONAL =
+    ofConstantBootstrap(CD_ConstantBootstraps, "optional", CD_Optional, CD_Object.arrayType());
+
+  private static final DirectMethodHandleDesc BSM_SORTED_SET =
+    ofConstantBootstrap(CD_ConstantBootstraps, "sortedSet", CD_SortedSet, CD_Comparator, CD_Object.arrayType());
+
+  private static final DirectMethodHandleDesc BSM_SORTED_MAP =
+    ofConstantBootstrap(CD_ConstantBootstraps, "sortedMap", CD_SortedMap, CD_Comparator, CD_Object.arrayType());
+
+  private static final Comparator<?> NATURAL_ORDER = Comparator.naturalOrder();
+
+  private static final Comparator<?> REVERSE_ORDER = Comparator.reverseOrder();
+
+  // The (non-public) class of Comparators returned by Collections.reverseOrder(Comparator) (and hence by the default
+  // implementation of Comparator#reversed()). Its reversed() method returns the Comparator it wraps.
+  private static final Class<?> REVERSE_COMPARATOR_CLASS = Collections.reverseOrder(String.CASE_INSENSITIVE_ORDER).getClass();
+
+  // The (non-public) class of Comparators returned by Comparator.nullsFirst(Comparator) and
+  // Comparator.nullsLast(Comparator).
+  private static final Class<?> NULL_COMPARATOR_CLASS = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER).getClass();
+
+  // The private field of NULL_COMPARATOR_CLASS holding the Comparator it wraps. Non-null only if the java.util package
+  // has been opened to this module, e.g. with --add-opens java.base/java.util=org.microbean.constant.
+  private static final Field NULL_COMPARATOR_REAL_FIELD = accessibleField(NULL_COMPARATOR_CLASS, "real");
+
 
   /*
    * Constructors.
@@ -88,10 +176,30 @@ public final class Constables {
    */
 
 
+  /**
+   * Returns an {@link Optional} housing a {@link ConstantDesc} describing the supplied {@link Object}, if it can be
+   * described, or an {@linkplain Optional#isEmpty() empty} {@link Optional} if it cannot.
+   *
+   * <p>{@link Comparator}s returned by {@link Comparator#naturalOrder()}, {@link Comparator#reverseOrder()}, {@link
+   * Comparator#reversed()} and {@link java.util.Collections#reverseOrder(Comparator)}, and {@link
+   * String#CASE_INSENSITIVE_ORDER}, are recognized and described, as are they when they are elements, keys or values
+   * of collections and maps, or the comparators of sorted sets and maps.  {@link Comparator}s returned by {@link
+   * Comparator#nullsFirst(Comparator)} and {@link Comparator#nullsLast(Comparator)} are recognized only if the {@code
+   * java.util} package is open to this module, since the {@link Comparator} each wraps can be recovered only by deep
+   * reflection; otherwise they cannot be described.  When this module is on the module path, open the package with
+   * {@code --add-opens java.base/java.util=org.microbean.constant}; when it is on the class path, open it with {@code
+   * --add-opens java.base/java.util=ALL-UNNAMED}.</p>
+   *
+   * @param o the {@link Object} to describe; may be {@code null}
+   *
+   * @return an {@link Optional} housing a {@link ConstantDesc} describing {@code o}; never {@code null}
+   */
   @SuppressWarnings("unchecked")
   public static final Optional<? extends ConstantDesc> describeConstable(final Object o) {
+    final ConstantDesc comparatorDesc = describeJdkComparator(o, null); // some JDK Comparators are (inaccessible) enums
     return
       o == null ? Optional.of(NULL) :
+      comparatorDesc != null ? Optional.of(comparatorDesc) :
       o instanceof Constable c ? c.describeConstable() :
       o instanceof ConstantDesc cd ? Optional.of(cd) :
       o instanceof List<?> l ? describeConstable(l) :
@@ -99,6 +207,22 @@ public final class Constables {
       o instanceof Map<?, ?> m ? describeConstable(m) :
       o instanceof Entry<?, ?> e ? describeConstable(e) :
       o instanceof Optional<?> opt ? describeConstable(opt) :
+      o instanceof UUID u ? describeConstable(u) :
+      o instanceof BigInteger bi ? describeConstable(bi) :
+      o instanceof BigDecimal bd ? describeConstable(bd) :
+      o instanceof Duration d ? describeConstable(d) :
+      o instanceof Instant i ? describeConstable(i) :
+      o instanceof LocalDate ld ? describeConstable(ld) :
+      o instanceof LocalTime lt ? describeConstable(lt) :
+      o instanceof LocalDateTime ldt ? describeConstable(ldt) :
+      o instanceof OffsetTime ot ? describeConstable(ot) :
+      o instanceof OffsetDateTime odt ? describeConstable(odt) :
+      o instanceof ZonedDateTime zdt ? describeConstable(zdt) :
+      o instanceof ZoneId zi ? describeConstable(zi) :
+      o instanceof Period p ? describeConstable(p) :
+      o instanceof Year y ? describeConstable(y) :
+      o instanceof YearMonth ym ? describeConstable(ym) :
+      o instanceof MonthDay md ? describeConstable(md) :
       Optional.empty();
   }
 
@@ -141,6 +265,191 @@ public final class Constables {
       c.describeConstable();
   }
 
+  public static final Optional<? extends ConstantDesc> describeConstable(final UUID u) {
+    return
+      u == null ? Optional.of(NULL) :
+      // new UUID(long, long)
+      Optional.of(construct(CD_UUID,
+                            new ClassDesc[] { CD_long, CD_long },
+                            u.getMostSignificantBits(),
+                            u.getLeastSignificantBits()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final BigInteger bi) {
+    if (bi == null) {
+      return Optional.of(NULL);
+    } else if (bi.bitLength() < Long.SIZE) {
+      // BigInteger.valueOf(long)
+      return Optional.of(callStatic(CD_BigInteger, "valueOf", MethodTypeDesc.of(CD_BigInteger, CD_long), bi.longValue()));
+    }
+    // Too big for a long. ConstantBootstraps.bigInteger(Lookup, String, Class, int, long...), which assembles the
+    // magnitude from longs, most significant first, in one node and without parsing anything.
+    final BigInteger magnitude = bi.abs();
+    final int words = (magnitude.bitLength() + Long.SIZE - 1) / Long.SIZE;
+    final ConstantDesc[] args = new ConstantDesc[words + 1];
+    args[0] = bi.signum();
+    for (int i = 1; i <= words; i++) {
+      args[i] = magnitude.shiftRight(Long.SIZE * (words - i)).longValue();
+    }
+    return Optional.of(dynamic(BSM_BIG_INTEGER, CD_BigInteger, args));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final BigDecimal bd) {
+    if (bd == null) {
+      return Optional.of(NULL);
+    }
+    final BigInteger unscaledValue = bd.unscaledValue();
+    if (unscaledValue.bitLength() < Long.SIZE) {
+      // BigDecimal.valueOf(long, int)
+      return
+        Optional.of(callStatic(CD_BigDecimal,
+                               "valueOf",
+                               MethodTypeDesc.of(CD_BigDecimal, CD_long, CD_int),
+                               unscaledValue.longValue(),
+                               bd.scale()));
+    }
+    // new BigDecimal(BigInteger, int)
+    return
+      describeConstable(unscaledValue)
+      .map(uvd -> construct(CD_BigDecimal, new ClassDesc[] { CD_BigInteger, CD_int }, uvd, bd.scale()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final Duration d) {
+    return
+      d == null ? Optional.of(NULL) :
+      // Duration.ofSeconds(long, long)
+      Optional.of(callStatic(CD_Duration,
+                             "ofSeconds",
+                             MethodTypeDesc.of(CD_Duration, CD_long, CD_long),
+                             d.getSeconds(),
+                             (long)d.getNano()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final Instant i) {
+    return
+      i == null ? Optional.of(NULL) :
+      // Instant.ofEpochSecond(long, long)
+      Optional.of(callStatic(CD_Instant,
+                             "ofEpochSecond",
+                             MethodTypeDesc.of(CD_Instant, CD_long, CD_long),
+                             i.getEpochSecond(),
+                             (long)i.getNano()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final LocalDate ld) {
+    return
+      ld == null ? Optional.of(NULL) :
+      // LocalDate.ofEpochDay(long)
+      Optional.of(callStatic(CD_LocalDate, "ofEpochDay", MethodTypeDesc.of(CD_LocalDate, CD_long), ld.toEpochDay()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final LocalTime lt) {
+    return
+      lt == null ? Optional.of(NULL) :
+      // LocalTime.ofNanoOfDay(long)
+      Optional.of(callStatic(CD_LocalTime, "ofNanoOfDay", MethodTypeDesc.of(CD_LocalTime, CD_long), lt.toNanoOfDay()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final LocalDateTime ldt) {
+    return
+      ldt == null ? Optional.of(NULL) :
+      // LocalDateTime.of(int, int, int, int, int, int, int)
+      Optional.of(callStatic(CD_LocalDateTime,
+                             "of",
+                             MethodTypeDesc.of(CD_LocalDateTime, CD_int, CD_int, CD_int, CD_int, CD_int, CD_int, CD_int),
+                             ldt.getYear(),
+                             ldt.getMonthValue(),
+                             ldt.getDayOfMonth(),
+                             ldt.getHour(),
+                             ldt.getMinute(),
+                             ldt.getSecond(),
+                             ldt.getNano()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final OffsetTime ot) {
+    return
+      ot == null ? Optional.of(NULL) :
+      // OffsetTime.of(int, int, int, int, ZoneOffset)
+      Optional.of(callStatic(CD_OffsetTime,
+                             "of",
+                             MethodTypeDesc.of(CD_OffsetTime, CD_int, CD_int, CD_int, CD_int, CD_ZoneOffset),
+                             ot.getHour(),
+                             ot.getMinute(),
+                             ot.getSecond(),
+                             ot.getNano(),
+                             describeZoneOffset(ot.getOffset())));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final OffsetDateTime odt) {
+    return
+      odt == null ? Optional.of(NULL) :
+      // OffsetDateTime.of(int, int, int, int, int, int, int, ZoneOffset)
+      Optional.of(callStatic(CD_OffsetDateTime,
+                             "of",
+                             MethodTypeDesc.of(CD_OffsetDateTime, CD_int, CD_int, CD_int, CD_int, CD_int, CD_int, CD_int, CD_ZoneOffset),
+                             odt.getYear(),
+                             odt.getMonthValue(),
+                             odt.getDayOfMonth(),
+                             odt.getHour(),
+                             odt.getMinute(),
+                             odt.getSecond(),
+                             odt.getNano(),
+                             describeZoneOffset(odt.getOffset())));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final ZonedDateTime zdt) {
+    return
+      zdt == null ? Optional.of(NULL) :
+      // ZonedDateTime.ofLocal(LocalDateTime, ZoneId, ZoneOffset)
+      Optional.of(callStatic(CD_ZonedDateTime,
+                             "ofLocal",
+                             MethodTypeDesc.of(CD_ZonedDateTime, CD_LocalDateTime, CD_ZoneId, CD_ZoneOffset),
+                             describeConstable(zdt.toLocalDateTime()).orElseThrow(),
+                             describeZoneId(zdt.getZone()),
+                             describeZoneOffset(zdt.getOffset())));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final ZoneId zi) {
+    return zi == null ? Optional.of(NULL) : Optional.of(describeZoneId(zi));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final ZoneOffset zo) {
+    return zo == null ? Optional.of(NULL) : Optional.of(describeZoneOffset(zo));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final Period p) {
+    return
+      p == null ? Optional.of(NULL) :
+      // Period.of(int, int, int)
+      Optional.of(callStatic(CD_Period,
+                             "of",
+                             MethodTypeDesc.of(CD_Period, CD_int, CD_int, CD_int),
+                             p.getYears(),
+                             p.getMonths(),
+                             p.getDays()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final Year y) {
+    return
+      y == null ? Optional.of(NULL) :
+      // Year.of(int)
+      Optional.of(callStatic(CD_Year, "of", MethodTypeDesc.of(CD_Year, CD_int), y.getValue()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final YearMonth ym) {
+    return
+      ym == null ? Optional.of(NULL) :
+      // YearMonth.of(int, int)
+      Optional.of(callStatic(CD_YearMonth, "of", MethodTypeDesc.of(CD_YearMonth, CD_int, CD_int), ym.getYear(), ym.getMonthValue()));
+  }
+
+  public static final Optional<? extends ConstantDesc> describeConstable(final MonthDay md) {
+    return
+      md == null ? Optional.of(NULL) :
+      // MonthDay.of(int, int)
+      Optional.of(callStatic(CD_MonthDay, "of", MethodTypeDesc.of(CD_MonthDay, CD_int, CD_int), md.getMonthValue(), md.getDayOfMonth()));
+  }
+
   public static final Optional<? extends ConstantDesc> describeConstable(final Collection<?> elements) {
     return describeConstable(elements, Constables::empty, Constables::describeConstable);
   }
@@ -156,44 +465,44 @@ public final class Constables {
                       final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
     return
       elements == null ? Optional.of(NULL) :
-      elements instanceof List<? extends E> l ? describeConstable0(l, CD_List, cf, f) :
-      elements instanceof Set<? extends E> s ? describeConstable0(s, CD_Set, cf, f) :
+      elements instanceof List<? extends E> l ? describeConstable0(l, CD_List, cf, elementFunction(f)) :
+      elements instanceof Set<? extends E> s ? describeConstable0(s, CD_Set, cf, elementFunction(f)) :
       Optional.empty();
   }
 
   public static final Optional<? extends ConstantDesc> describeConstable(final List<?> elements) {
-    return describeConstable0(elements, CD_List, Constables::empty, Constables::describeConstable);
+    return describeConstable0(elements, CD_List, Constables::empty, elementFunction(null));
   }
 
   public static final <E> Optional<? extends ConstantDesc> describeConstable(final List<? extends E> elements,
                                                                              final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
-    return describeConstable0(elements, CD_List, Constables::empty, f);
+    return describeConstable0(elements, CD_List, Constables::empty, elementFunction(f));
   }
 
   public static final Optional<? extends ConstantDesc> describeConstable(final Set<?> elements) {
-    return describeConstable0(elements, CD_Set, Constables::empty, Constables::describeConstable);
+    return describeConstable0(elements, CD_Set, Constables::empty, elementFunction(null));
   }
 
   public static final <E> Optional<? extends ConstantDesc> describeConstable(final Set<? extends E> elements,
                                                                              final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
-    return describeConstable0(elements, CD_Set, Constables::empty, f);
+    return describeConstable0(elements, CD_Set, Constables::empty, elementFunction(f));
   }
 
   public static final <E> Optional<? extends ConstantDesc>
     describeConstable(final Set<? extends E> elements,
                       final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf,
                       final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
-    return describeConstable0(elements, CD_Set, cf, f);
+    return describeConstable0(elements, CD_Set, cf, elementFunction(f));
   }
 
   public static final Optional<? extends ConstantDesc> describeConstable(final Map<?, ?> map) {
-    return describeConstable0(map, Constables::empty, Constables::describeConstable, Constables::describeConstable);
+    return describeConstable0(map, Constables::empty, entryFunction(null, null));
   }
 
   public static final <K, V> Optional<? extends ConstantDesc> describeConstable(final Map<? extends K, ? extends V> map,
                                                                                 final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
                                                                                 final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf) {
-    return describeConstable0(map, Constables::empty, kf, vf);
+    return describeConstable0(map, Constables::empty, entryFunction(kf, vf));
   }
 
   public static final <K, V> Optional<? extends ConstantDesc>
@@ -201,7 +510,7 @@ public final class Constables {
                       final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf,
                       final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
                       final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf) {
-    return describeConstable0(map, cf, kf, vf);
+    return describeConstable0(map, cf, entryFunction(kf, vf));
   }
 
   public static final Optional<? extends ConstantDesc> describeConstable(final Entry<?, ?> entry) {
@@ -222,11 +531,9 @@ public final class Constables {
                       final V v,
                       final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
                       final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf) {
-    final Optional<? extends ConstantDesc> key =
-      k instanceof Constable c ? c.describeConstable() : kf == null ? describeConstable(k) : kf.apply(k);
+    final Optional<? extends ConstantDesc> key = describe(k, kf);
     if (key.isPresent()) {
-      final Optional<? extends ConstantDesc> value =
-        v instanceof Constable c ? c.describeConstable() : vf == null ? describeConstable(v) : vf.apply(v);
+      final Optional<? extends ConstantDesc> value = describe(v, vf);
       if (value.isPresent()) {
         final ConstantDesc keyDesc = key.orElseThrow();
         final ConstantDesc valueDesc = value.orElseThrow();
@@ -251,6 +558,254 @@ public final class Constables {
     return Optional.empty();
   }
 
+  /**
+   * Describes the supplied {@link Collection} in the manner of {@link #describeConstable(Collection)}, reusing, where
+   * possible, the element descriptions of the supplied previous description.
+   *
+   * @param previous the {@link Collection} that {@code previousDescription} describes; may be {@code null}
+   *
+   * @param previousDescription a {@link ConstantDesc} describing {@code previous}; may be {@code null}
+   *
+   * @param elements the {@link Collection} to describe; may be {@code null}
+   *
+   * @return an {@link Optional} housing a {@link ConstantDesc} describing {@code elements}; never {@code null}
+   *
+   * @see #redescribeConstable(Collection, ConstantDesc, Collection, Function, Function)
+   */
+  public static final Optional<? extends ConstantDesc> redescribeConstable(final Collection<?> previous,
+                                                                           final ConstantDesc previousDescription,
+                                                                           final Collection<?> elements) {
+    return redescribeConstable(previous, previousDescription, elements, Constables::empty, Constables::describeConstable);
+  }
+
+  /**
+   * Describes the supplied {@link Collection} in the manner of {@link #describeConstable(Collection, Function,
+   * Function)}, reusing, where possible, the element descriptions of the supplied previous description.
+   *
+   * <p>An element of {@code elements} that is identical to an element of {@code previous}, or that is {@linkplain
+   * Object#equals(Object) equal} to it, of the same class and, if it is a {@link SortedSet} or {@link SortedMap}, has an
+   * equal {@linkplain SortedSet#comparator() comparator}, is not described again; instead, the {@link ConstantDesc}
+   * describing that element in {@code previousDescription} is shared by the returned description.  (Only the element
+   * itself is compared in this way, not, for example, the elements it contains.)  Only the remaining elements, and the few elements of
+   * {@code previous} that are spot-checked as described below, are supplied to {@code f}. Consequently, if only a few
+   * elements have changed, the work done by this method, apart from iterating and hashing, is proportional to the
+   * number of changed elements.</p>
+   *
+   * <p>If {@code previousDescription} was {@linkplain #lean(ConstantDesc) leaned}, then so is the returned
+   * description.  If {@code previousDescription} is not a description of a {@link List} or {@link Set} produced by this
+   * class, or if it does not describe as many elements as {@code previous} contains, then {@code elements} is simply
+   * described from scratch.  The same is true if the first, middle or last element of {@code previous}, described
+   * again, is not described in the same way by {@code previousDescription}.  No other elements are checked: if {@code
+   * previousDescription} otherwise describes a different {@link Collection} than {@code previous}, the returned
+   * description will be incorrect, and no error will be reported.</p>
+   *
+   * @param <E> the element type
+   *
+   * @param previous the {@link Collection} that {@code previousDescription} describes, unchanged since it was
+   * described; may be {@code null}
+   *
+   * @param previousDescription a {@link ConstantDesc} describing {@code previous}; may be {@code null}
+   *
+   * @param elements the {@link Collection} to describe; may be {@code null}
+   *
+   * @param cf a {@link Function} describing {@link Comparator}s; may be {@code null}
+   *
+   * @param f a {@link Function} describing elements; may be {@code null}
+   *
+   * @return an {@link Optional} housing a {@link ConstantDesc} describing {@code elements}; never {@code null}
+   *
+   * @microbean.threadsafety This method is safe for concurrent use by multiple threads, provided that neither {@code
+   * previous} nor {@code elements} is modified during its execution.
+   */
+  public static final <E> Optional<? extends ConstantDesc>
+    redescribeConstable(final Collection<? extends E> previous,
+                        final ConstantDesc previousDescription,
+                        final Collection<? extends E> elements,
+                        final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf,
+                        final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
+    final boolean lean = isLean(previousDescription);
+    final Function<E, Optional<? extends ConstantDesc>> ef = elementFunction(f);
+    final Function<E, Optional<? extends ConstantDesc>> fresh = lean ? e -> leaned(ef.apply(e)) : ef;
+    final ConstantDesc[] previousElements = previous == null ? null : parts(previousDescription);
+    Function<E, Optional<? extends ConstantDesc>> g = fresh;
+    if (previousElements != null && previousElements.length == previous.size()) {
+      final Map<Object, Integer> indices = new HashMap<>();
+      final Object[] previousObjects = new Object[previousElements.length];
+      int i = 0;
+      for (final E e : previous) {
+        if (spotChecked(i, previousElements.length) && !previousElements[i].equals(fresh.apply(e).orElse(null))) {
+          // previousDescription does not describe previous.
+          indices.clear();
+          break;
+        }
+        indices.put(e, i);
+        previousObjects[i++] = e;
+      }
+      if (!indices.isEmpty()) {
+        g = e -> {
+          final Integer index = indices.get(e);
+          return index != null && interchangeable(previousObjects[index], e) ? Optional.of(previousElements[index]) : fresh.apply(e);
+        };
+      }
+    }
+    final Optional<? extends ConstantDesc> description =
+      elements == null ? Optional.of(NULL) :
+      elements instanceof List<? extends E> l ? describeConstable0(l, CD_List, cf, g) :
+      elements instanceof Set<? extends E> s ? describeConstable0(s, CD_Set, cf, g) :
+      Optional.empty();
+    return lean ? description.map(Constables::leanRoot) : description;
+  }
+
+  /**
+   * Describes the supplied {@link Map} in the manner of {@link #describeConstable(Map)}, reusing, where possible, the
+   * entry descriptions of the supplied previous description.
+   *
+   * @param previous the {@link Map} that {@code previousDescription} describes; may be {@code null}
+   *
+   * @param previousDescription a {@link ConstantDesc} describing {@code previous}; may be {@code null}
+   *
+   * @param map the {@link Map} to describe; may be {@code null}
+   *
+   * @return an {@link Optional} housing a {@link ConstantDesc} describing {@code map}; never {@code null}
+   *
+   * @see #redescribeConstable(Map, ConstantDesc, Map, Function, Function, Function)
+   */
+  public static final Optional<? extends ConstantDesc> redescribeConstable(final Map<?, ?> previous,
+                                                                           final ConstantDesc previousDescription,
+                                                                           final Map<?, ?> map) {
+    return redescribeConstable(previous, previousDescription, map, Constables::empty, Constables::describeConstable, Constables::describeConstable);
+  }
+
+  /**
+   * Describes the supplied {@link Map} in the manner of {@link #describeConstable(Map, Function, Function, Function)},
+   * reusing, where possible, the entry descriptions of the supplied previous description.
+   *
+   * <p>An entry of {@code map} whose key and value are interchangeable with a key of {@code previous} and that key's
+   * value is not described again; instead, the {@link ConstantDesc} describing that entry in {@code
+   * previousDescription} is shared by the returned description.  Two objects are interchangeable if they are identical,
+   * or if they are {@linkplain Object#equals(Object) equal}, of the same class and, if they are {@link SortedSet}s or
+   * {@link SortedMap}s, have equal {@linkplain SortedMap#comparator() comparators}.  (Only the keys and values
+   * themselves are compared in this way, not, for example, the elements they contain.)  Only the keys and values of the remaining entries, and of the few entries of {@code previous} that are
+   * spot-checked as described below, are supplied to {@code kf} and {@code vf}. Consequently, if only a few entries
+   * have changed, the work done by this method, apart from iterating and hashing, is proportional to the number of
+   * changed entries.</p>
+   *
+   * <p>If {@code previousDescription} was {@linkplain #lean(ConstantDesc) leaned}, then so is the returned
+   * description.  If {@code previousDescription} is not a description of a {@link Map} produced by this class, or if it
+   * does not describe as many entries as {@code previous} contains, then {@code map} is simply described from
+   * scratch.  The same is true if the first, middle or last entry of {@code previous}, described again, is not described
+   * in the same way by {@code previousDescription}.  No other entries are checked: if {@code previousDescription}
+   * otherwise describes a different {@link Map} than {@code previous}, the returned description will be incorrect, and
+   * no error will be reported.</p>
+   *
+   * @param <K> the key type
+   *
+   * @param <V> the value type
+   *
+   * @param previous the {@link Map} that {@code previousDescription} describes, unchanged since it was described; may be
+   * {@code null}
+   *
+   * @param previousDescription a {@link ConstantDesc} describing {@code previous}; may be {@code null}
+   *
+   * @param map the {@link Map} to describe; may be {@code null}
+   *
+   * @param cf a {@link Function} describing {@link Comparator}s; may be {@code null}
+   *
+   * @param kf a {@link Function} describing keys; may be {@code null}
+   *
+   * @param vf a {@link Function} describing values; may be {@code null}
+   *
+   * @return an {@link Optional} housing a {@link ConstantDesc} describing {@code map}; never {@code null}
+   *
+   * @microbean.threadsafety This method is safe for concurrent use by multiple threads, provided that neither {@code
+   * previous} nor {@code map} is modified during its execution.
+   */
+  public static final <K, V> Optional<? extends ConstantDesc>
+    redescribeConstable(final Map<? extends K, ? extends V> previous,
+                        final ConstantDesc previousDescription,
+                        final Map<? extends K, ? extends V> map,
+                        final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf,
+                        final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
+                        final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf) {
+    final boolean lean = isLean(previousDescription);
+    final Function<Entry<? extends K, ? extends V>, Optional<? extends ConstantDesc>> ef = entryFunction(kf, vf);
+    final Function<Entry<? extends K, ? extends V>, Optional<? extends ConstantDesc>> fresh = lean ? e -> leaned(ef.apply(e)) : ef;
+    final ConstantDesc[] previousEntries = previous == null ? null : parts(previousDescription);
+    Function<Entry<? extends K, ? extends V>, Optional<? extends ConstantDesc>> g = fresh;
+    if (previousEntries != null && previousEntries.length == previous.size()) {
+      final Map<Object, Integer> indices = new HashMap<>();
+      final Object[] previousKeys = new Object[previousEntries.length];
+      final Object[] previousValues = new Object[previousEntries.length];
+      int i = 0;
+      for (final Entry<? extends K, ? extends V> e : previous.entrySet()) {
+        if (spotChecked(i, previousEntries.length) && !previousEntries[i].equals(fresh.apply(e).orElse(null))) {
+          // previousDescription does not describe previous.
+          indices.clear();
+          break;
+        }
+        indices.put(e.getKey(), i);
+        previousKeys[i] = e.getKey();
+        previousValues[i++] = e.getValue();
+      }
+      if (!indices.isEmpty()) {
+        g = e -> {
+          final Integer index = indices.get(e.getKey());
+          return
+            index != null && interchangeable(previousKeys[index], e.getKey()) && interchangeable(previousValues[index], e.getValue()) ?
+            Optional.of(previousEntries[index]) :
+            fresh.apply(e);
+        };
+      }
+    }
+    final Optional<? extends ConstantDesc> description = describeConstable0(map, cf, g);
+    return lean ? description.map(Constables::leanRoot) : description;
+  }
+
+
+  /**
+   * Returns a {@link ConstantDesc} equivalent to the supplied {@link ConstantDesc} in which every collection, {@link
+   * Entry} and {@link Optional} node produced by this class is replaced by one that uses a dedicated bootstrap method
+   * from {@link ConstantBootstraps} instead of {@link java.lang.constant.ConstantDescs#BSM_INVOKE}.
+   *
+   * <p>Such nodes take their elements directly as static arguments, so resolving them involves neither a {@link
+   * java.lang.invoke.MethodHandle} constant nor {@link java.lang.invoke.MethodHandle#invokeWithArguments(Object...)}.
+   * {@link Map} nodes take alternating keys and values, so their entries need no nodes of their own. Resolution of the
+   * result no longer needs {@code org.microbean.invoke.BootstrapMethods}, but does need {@link ConstantBootstraps}.</p>
+   *
+   * <p>Nodes that are not recognized are retained, though their arguments are rewritten in the same manner. Unchanged
+   * subtrees are shared with the supplied {@link ConstantDesc}.</p>
+   *
+   * @param cd a {@link ConstantDesc}, typically returned by one of the {@code describeConstable} methods; may be {@code
+   * null} in which case {@code null} will be returned
+   *
+   * @return an equivalent {@link ConstantDesc}, or {@code null}
+   *
+   * @microbean.idempotency This method is idempotent and deterministic.
+   *
+   * @microbean.threadsafety This method is safe for concurrent use by multiple threads.
+   */
+  public static final ConstantDesc lean(final ConstantDesc cd) {
+    if (!(cd instanceof DynamicConstantDesc<?> dcd)) {
+      return cd;
+    }
+    final ConstantDesc[] args = dcd.bootstrapArgs(); // a clone
+    boolean changed = false;
+    for (int i = 0; i < args.length; i++) {
+      final ConstantDesc arg = lean(args[i]);
+      if (arg != args[i]) {
+        args[i] = arg;
+        changed = true;
+      }
+    }
+    if (args.length > 0 && args[0] instanceof DirectMethodHandleDesc mh && BSM_INVOKE.equals(dcd.bootstrapMethod())) {
+      final ConstantDesc lean = lean0(mh, Arrays.copyOfRange(args, 1, args.length));
+      if (lean != null) {
+        return lean;
+      }
+    }
+    return changed ? DynamicConstantDesc.ofNamed(dcd.bootstrapMethod(), dcd.constantName(), dcd.constantType(), args) : dcd;
+  }
+
 
   /*
    * Private static methods.
@@ -310,7 +865,7 @@ public final class Constables {
     describeConstable0(final Collection<? extends E> elements,
                        final ClassDesc listOrSetClassDesc,
                        final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf,
-                       Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
+                       final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
     assert CD_List.equals(listOrSetClassDesc) || CD_Set.equals(listOrSetClassDesc) : String.valueOf(listOrSetClassDesc);
     if (elements == null) {
       return Optional.of(NULL);
@@ -322,15 +877,12 @@ public final class Constables {
       return Optional.of(callInterfaceStatic(listOrSetClassDesc, "of", listOrSetClassDesc));
     }
 
-    if (f == null) {
-      f = Constables::describeConstable;
-    }
     final int elementsSize = elements.size();
     final ConstantDesc[] args = new ConstantDesc[elementsSize];
     boolean nulls = false;
     int i = 0;
     for (final E element : elements) {
-      final Optional<? extends ConstantDesc> arg = element instanceof Constable c ? c.describeConstable() : f.apply(element);
+      final Optional<? extends ConstantDesc> arg = f.apply(element);
       if (arg == null || arg.isEmpty()) {
         // If there's even one thing that cannot be described, then the whole thing cannot be described.
         return Optional.empty();
@@ -379,8 +931,7 @@ public final class Constables {
   private static final <K, V> Optional<? extends ConstantDesc>
     describeConstable0(final SortedMap<? extends K, ? extends V> map,
                        final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf,
-                       final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
-                       final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf) {
+                       final Function<? super Entry<? extends K, ? extends V>, ? extends Optional<? extends ConstantDesc>> ef) {
     if (map == null) {
       return Optional.of(NULL);
     } else if (map instanceof Constable c) {
@@ -404,7 +955,7 @@ public final class Constables {
                                comparatorDesc));
     }
 
-    final ConstantDesc entriesListDesc = asList(entries(map, kf, vf, false));
+    final ConstantDesc entriesListDesc = asList(entries(map, ef, false));
 
     if (comparatorDesc == NULL) {
       return
@@ -424,20 +975,19 @@ public final class Constables {
   private static final <K, V> Optional<? extends ConstantDesc>
     describeConstable0(final Map<? extends K, ? extends V> map,
                        final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf,
-                       final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
-                       final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf) {
+                       final Function<? super Entry<? extends K, ? extends V>, ? extends Optional<? extends ConstantDesc>> ef) {
     if (map == null) {
       return Optional.of(NULL);
     } else if (map instanceof Constable c) {
       return c.describeConstable();
     } else if (map instanceof SortedMap<? extends K, ? extends V> sm) {
-      return describeConstable0(sm, cf, kf, vf);
+      return describeConstable0(sm, cf, ef);
     } else if (map.isEmpty()) {
       // Map.of()
       return Optional.of(callInterfaceStatic(CD_Map, "of", CD_Map));
     }
 
-    final ConstantDesc[] args = entries(map, kf, vf, true);
+    final ConstantDesc[] args = entries(map, ef, true);
     if (args.length <= 0) {
       return Optional.empty();
     }
@@ -447,14 +997,11 @@ public final class Constables {
   }
 
   private static final <E> ConstantDesc[] elements(final Collection<? extends E> source,
-                                                   Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
-    if (f == null) {
-      f = Constables::describeConstable;
-    }
+                                                   final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
     final ConstantDesc[] args = new ConstantDesc[source.size()];
     int i = 0;
     for (final E element : source) {
-      final Optional<? extends ConstantDesc> arg = element instanceof Constable c ? c.describeConstable() : f.apply(element);
+      final Optional<? extends ConstantDesc> arg = f.apply(element);
       if (arg == null || arg.isEmpty()) {
         // If there's even one thing that cannot be described, then the whole thing cannot be described.
         return EMPTY_CONSTANTDESC_ARRAY;
@@ -465,8 +1012,7 @@ public final class Constables {
   }
 
   private static final <K, V> ConstantDesc[] entries(final Map<? extends K, ? extends V> map,
-                                                     final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
-                                                     final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf,
+                                                     final Function<? super Entry<? extends K, ? extends V>, ? extends Optional<? extends ConstantDesc>> ef,
                                                      final boolean rejectNulls) {
     if (map.isEmpty()) {
       return EMPTY_CONSTANTDESC_ARRAY;
@@ -477,8 +1023,8 @@ public final class Constables {
       if (rejectNulls && (entry.getKey() == null || entry.getValue() == null)) {
         return EMPTY_CONSTANTDESC_ARRAY;
       }
-      final Optional<? extends ConstantDesc> e = describeConstable(entry, kf, vf);
-      if (e.isEmpty()) {
+      final Optional<? extends ConstantDesc> e = ef.apply(entry);
+      if (e == null || e.isEmpty()) {
         // If there's even one thing that cannot be described, then the whole thing can't be described.
         return EMPTY_CONSTANTDESC_ARRAY;
       }
@@ -487,6 +1033,32 @@ public final class Constables {
     return args;
   }
 
+  // Returns a Function that describes an element in the same way as describeConstable(Collection, Function).
+  private static final <E> Function<E, Optional<? extends ConstantDesc>>
+    elementFunction(final Function<? super E, ? extends Optional<? extends ConstantDesc>> f) {
+    return e -> describe(e, f);
+  }
+
+  // Describes an element, key or value: JDK Comparators and Constables describe themselves; anything else is described
+  // by f, or by describeConstable(Object) if f is null. JDK Comparators come first because some of them are Constable
+  // enums whose descriptions cannot be resolved outside java.base.
+  private static final <T> Optional<? extends ConstantDesc> describe(final T o,
+                                                                     final Function<? super T, ? extends Optional<? extends ConstantDesc>> f) {
+    final ConstantDesc comparatorDesc = describeJdkComparator(o, null);
+    return
+      comparatorDesc != null ? Optional.of(comparatorDesc) :
+      o instanceof Constable c ? c.describeConstable() :
+      f == null ? describeConstable(o) :
+      f.apply(o);
+  }
+
+  // Returns a Function that describes an Entry in the same way as describeConstable(Entry, Function, Function).
+  private static final <K, V> Function<Entry<? extends K, ? extends V>, Optional<? extends ConstantDesc>>
+    entryFunction(final Function<? super K, ? extends Optional<? extends ConstantDesc>> kf,
+                  final Function<? super V, ? extends Optional<? extends ConstantDesc>> vf) {
+    return e -> describeConstable(e, kf, vf);
+  }
+
   private static final DynamicConstantDesc<?> construct(final ClassDesc cd, final ClassDesc[] constructorParameterTypes, final ConstantDesc... args) {
     final ConstantDesc[] newArgs = new ConstantDesc[args == null || args.length <= 0 ? 1 : args.length + 1];
     newArgs[0] = MethodHandleDesc.ofConstructor(cd, constructorParameterTypes);
@@ -521,19 +1093,373 @@ public final class Constables {
     return DynamicConstantDesc.of(BSM_INVOKE, newArgs);
   }
 
+  // Returns true if mh, whose owner is List or Set, is List.of(...) or Set.of(...) in one of the forms
+  // describeConstable0(Collection, ClassDesc, Function, Function) uses for the supplied number of elements: one Object
+  // parameter per element, or the E... form with any number of elements other than one. (Given one argument, the E...
+  // form may be passed either a sole element or an array of elements, and a description alone cannot tell which.)
+  private static final boolean isOf(final DirectMethodHandleDesc mh, final int elementCount) {
+    if (!mh.methodName().equals("of") || !mh.owner().equals(mh.invocationType().returnType())) {
+      return false;
+    }
+    final List<ClassDesc> parameterTypes = mh.invocationType().parameterList();
+    if (parameterTypes.size() == 1 && parameterTypes.get(0).equals(CD_Object.arrayType())) {
+      return elementCount != 1;
+    } else if (parameterTypes.size() != elementCount) {
+      return false;
+    }
+    for (final ClassDesc parameterType : parameterTypes) {
+      if (!parameterType.equals(CD_Object)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Given the target of a ConstantBootstraps.invoke node, and its (already leaned) arguments, returns an equivalent node
+  // that uses a ConstantBootstraps bootstrap method, or null if there is no such node.
+  private static final ConstantDesc lean0(final DirectMethodHandleDesc mh, final ConstantDesc[] args) {
+    final ClassDesc owner = mh.owner();
+    final String name = mh.methodName();
+    final int parameterCount = mh.invocationType().parameterCount();
+    if (CD_List.equals(owner)) {
+      // List.of(...)
+      return isOf(mh, args.length) ? dynamic(BSM_LIST, CD_List, args) : null;
+    } else if (CD_Set.equals(owner)) {
+      // Set.of(...)
+      return isOf(mh, args.length) ? dynamic(BSM_SET, CD_Set, args) : null;
+    } else if (CD_Map.equals(owner)) {
+      switch (name) {
+      case "of":
+        // Map.of(K, V, ...)
+        return dynamic(BSM_MAP, CD_Map, args);
+      case "ofEntries":
+        // Map.ofEntries(Entry...)
+        final ConstantDesc[] keysAndValues = keysAndValues(args);
+        return keysAndValues == null ? null : dynamic(BSM_MAP, CD_Map, keysAndValues);
+      case "entry":
+        // Map.entry(K, V)
+        return dynamic(BSM_ENTRY, CD_Entry, args);
+      default:
+        return null;
+      }
+    } else if (CD_SimpleImmutableEntry.equals(owner)) {
+      // new SimpleImmutableEntry(K, V)
+      return mh.kind() == DirectMethodHandleDesc.Kind.CONSTRUCTOR && parameterCount == 2 ? dynamic(BSM_ENTRY, CD_Entry, args) : null;
+    } else if (CD_Optional.equals(owner)) {
+      // Optional.empty(), Optional.ofNullable(T)
+      return name.equals("empty") || name.equals("ofNullable") ? dynamic(BSM_OPTIONAL, CD_Optional, args) : null;
+    } else if (CD_Collections.equals(owner)) {
+      switch (name) {
+      case "emptySortedSet":
+        return dynamic(BSM_SORTED_SET, CD_SortedSet, NULL);
+      case "emptySortedMap":
+        return dynamic(BSM_SORTED_MAP, CD_SortedMap, NULL);
+      case "unmodifiableList":
+        // Collections.unmodifiableList(Arrays.asList(...))
+        final ConstantDesc[] listElements = asListElements(args[0]);
+        return listElements == null ? null : dynamic(BSM_LIST, CD_List, listElements);
+      case "unmodifiableSet":
+        // Collections.unmodifiableSet(new HashSet(Arrays.asList(...)))
+        final ConstantDesc[] setElements = hashSetElements(args[0]);
+        return setElements == null ? null : dynamic(BSM_SET, CD_Set, setElements);
+      default:
+        return null;
+      }
+    } else if (CD_BootstrapMethods.equals(owner)) {
+      switch (name) {
+      case "immutableSortedSetOf":
+        if (parameterCount == 1 && CD_Comparator.equals(mh.invocationType().parameterType(0))) {
+          // BootstrapMethods.immutableSortedSetOf(Comparator)
+          return dynamic(BSM_SORTED_SET, CD_SortedSet, args[0]);
+        }
+        // BootstrapMethods.immutableSortedSetOf(Collection[, Comparator])
+        final ConstantDesc[] sortedSetElements = asListElements(args[0]);
+        return
+          sortedSetElements == null ? null :
+          dynamic(BSM_SORTED_SET, CD_SortedSet, prepend(parameterCount == 2 ? args[1] : NULL, sortedSetElements));
+      case "immutableEmptySortedMap":
+        // BootstrapMethods.immutableEmptySortedMap(Comparator)
+        return dynamic(BSM_SORTED_MAP, CD_SortedMap, args[0]);
+      case "immutableSortedMapOf":
+        // BootstrapMethods.immutableSortedMapOf(Collection[, Comparator])
+        final ConstantDesc[] entries = asListElements(args[0]);
+        final ConstantDesc[] keysAndValues = entries == null ? null : keysAndValues(entries);
+        return
+          keysAndValues == null ? null :
+          dynamic(BSM_SORTED_MAP, CD_SortedMap, prepend(parameterCount == 2 ? args[1] : NULL, keysAndValues));
+      default:
+        return null;
+      }
+    }
+    return null;
+  }
+
+  // If cd is a lean node, leans cd's root only, on the assumption that its arguments are already lean.  Otherwise returns
+  // cd.
+  private static final ConstantDesc leanRoot(final ConstantDesc cd) {
+    if (cd instanceof DynamicConstantDesc<?> dcd && BSM_INVOKE.equals(dcd.bootstrapMethod())) {
+      final ConstantDesc[] args = dcd.bootstrapArgs();
+      if (args.length > 0 && args[0] instanceof DirectMethodHandleDesc mh) {
+        final ConstantDesc lean = lean0(mh, Arrays.copyOfRange(args, 1, args.length));
+        if (lean != null) {
+          return lean;
+        }
+      }
+    }
+    return cd;
+  }
+
+  private static final Optional<? extends ConstantDesc> leaned(final Optional<? extends ConstantDesc> cd) {
+    return cd == null || cd.isEmpty() ? cd : Optional.of(lean(cd.orElseThrow()));
+  }
+
+  // Returns true if the element or entry at index i of n should be described afresh and compared with its previous
+  // description, to catch a previous description that does not describe what it is said to.  Checking the first, middle
+  // and last catches descriptions of other collections of the same size cheaply, but not exhaustively.
+  private static final boolean spotChecked(final int i, final int n) {
+    return i == 0 || i == n >>> 1 || i == n - 1;
+  }
+
+  // Returns true if a and b are identical, or are equal, of the same class and, if sorted, have equal Comparators, in
+  // which case a description of one describes the other too. Equality alone is not enough: a TreeSet ordered in reverse
+  // and a TreeSet ordered naturally, for example, are equal if they have the same elements.
+  private static final boolean interchangeable(final Object a, final Object b) {
+    if (a == b) {
+      return true;
+    } else if (a == null || b == null || a.getClass() != b.getClass() || !a.equals(b)) {
+      return false;
+    }
+    return
+      a instanceof SortedSet<?> ss ? Objects.equals(ss.comparator(), ((SortedSet<?>)b).comparator()) :
+      a instanceof SortedMap<?, ?> sm ? Objects.equals(sm.comparator(), ((SortedMap<?, ?>)b).comparator()) :
+      true;
+  }
+
+  private static final boolean isLean(final ConstantDesc cd) {
+    return cd instanceof DynamicConstantDesc<?> dcd && CD_ConstantBootstraps.equals(dcd.bootstrapMethod().owner());
+  }
+
+  // If cd describes a List, Set or Map produced by this class (leaned or not), returns the descriptions of its elements or
+  // entries, in iteration order, or null otherwise.  Entries of lean Maps are returned as lean Entry descriptions.
+  private static final ConstantDesc[] parts(final ConstantDesc cd) {
+    if (!(cd instanceof DynamicConstantDesc<?> dcd)) {
+      return null;
+    }
+    final DirectMethodHandleDesc bsm = dcd.bootstrapMethod();
+    final ConstantDesc[] args = dcd.bootstrapArgs();
+    if (BSM_LIST.equals(bsm) || BSM_SET.equals(bsm)) {
+      return args;
+    } else if (BSM_SORTED_SET.equals(bsm)) {
+      return args.length == 0 ? null : Arrays.copyOfRange(args, 1, args.length);
+    } else if (BSM_MAP.equals(bsm)) {
+      return entries(args, 0);
+    } else if (BSM_SORTED_MAP.equals(bsm)) {
+      return args.length == 0 ? null : entries(args, 1);
+    }
+    if (!BSM_INVOKE.equals(bsm) || args.length == 0 || !(args[0] instanceof DirectMethodHandleDesc mh)) {
+      return null;
+    }
+    final ClassDesc owner = mh.owner();
+    final String name = mh.methodName();
+    final int parameterCount = mh.invocationType().parameterCount();
+    if (CD_List.equals(owner) || CD_Set.equals(owner)) {
+      // List.of(...), Set.of(...)
+      return isOf(mh, args.length - 1) ? Arrays.copyOfRange(args, 1, args.length) : null;
+    } else if (CD_Map.equals(owner)) {
+      // Map.of(), Map.ofEntries(Entry...)
+      return name.equals("ofEntries") || name.equals("of") && args.length == 1 ? Arrays.copyOfRange(args, 1, args.length) : null;
+    } else if (CD_Collections.equals(owner)) {
+      switch (name) {
+      case "emptySortedSet":
+      case "emptySortedMap":
+        return EMPTY_CONSTANTDESC_ARRAY;
+      case "unmodifiableList":
+        // Collections.unmodifiableList(Arrays.asList(...))
+        return args.length == 2 ? asListElements(args[1]) : null;
+      case "unmodifiableSet":
+        // Collections.unmodifiableSet(new HashSet(Arrays.asList(...)))
+        return args.length == 2 ? hashSetElements(args[1]) : null;
+      default:
+        return null;
+      }
+    } else if (CD_BootstrapMethods.equals(owner)) {
+      switch (name) {
+      case "immutableSortedSetOf":
+        if (parameterCount == 1 && CD_Comparator.equals(mh.invocationType().parameterType(0))) {
+          // BootstrapMethods.immutableSortedSetOf(Comparator)
+          return EMPTY_CONSTANTDESC_ARRAY;
+        }
+        // BootstrapMethods.immutableSortedSetOf(Collection[, Comparator])
+        return args.length > 1 ? asListElements(args[1]) : null;
+      case "immutableEmptySortedMap":
+        return EMPTY_CONSTANTDESC_ARRAY;
+      case "immutableSortedMapOf":
+        // BootstrapMethods.immutableSortedMapOf(Collection[, Comparator])
+        return args.length > 1 ? asListElements(args[1]) : null;
+      default:
+        return null;
+      }
+    }
+    return null;
+  }
+
+  // Returns lean Entry descriptions for the alternating keys and values in keysAndValues, starting at offset, or null if
+  // they do not pair up.
+  private static final ConstantDesc[] entries(final ConstantDesc[] keysAndValues, final int offset) {
+    if ((keysAndValues.length - offset) % 2 != 0) {
+      return null;
+    }
+    final ConstantDesc[] entries = new ConstantDesc[(keysAndValues.length - offset) / 2];
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = dynamic(BSM_ENTRY, CD_Entry, keysAndValues[offset + 2 * i], keysAndValues[offset + 2 * i + 1]);
+    }
+    return entries;
+  }
+
+  private static final DynamicConstantDesc<?> dynamic(final DirectMethodHandleDesc bsm, final ClassDesc type, final ConstantDesc... args) {
+    return DynamicConstantDesc.ofNamed(bsm, DEFAULT_NAME, type, args);
+  }
+
+  // If cd describes Arrays.asList(...), returns its elements, or null otherwise.
+  private static final ConstantDesc[] asListElements(final ConstantDesc cd) {
+    if (cd instanceof DynamicConstantDesc<?> dcd && BSM_INVOKE.equals(dcd.bootstrapMethod())) {
+      final ConstantDesc[] args = dcd.bootstrapArgs();
+      if (args.length > 0 &&
+          args[0] instanceof DirectMethodHandleDesc mh &&
+          CD_Arrays.equals(mh.owner()) &&
+          mh.methodName().equals("asList")) {
+        return Arrays.copyOfRange(args, 1, args.length);
+      }
+    }
+    return null;
+  }
+
+  // If cd describes new HashSet(Arrays.asList(...)), returns its elements, or null otherwise.
+  private static final ConstantDesc[] hashSetElements(final ConstantDesc cd) {
+    if (cd instanceof DynamicConstantDesc<?> dcd && BSM_INVOKE.equals(dcd.bootstrapMethod())) {
+      final ConstantDesc[] args = dcd.bootstrapArgs();
+      if (args.length == 2 &&
+          args[0] instanceof DirectMethodHandleDesc mh &&
+          mh.kind() == DirectMethodHandleDesc.Kind.CONSTRUCTOR &&
+          CD_HashSet.equals(mh.owner())) {
+        return asListElements(args[1]);
+      }
+    }
+    return null;
+  }
+
+  // If every element of entries describes a (leaned) Entry, returns their alternating keys and values, or null
+  // otherwise.
+  private static final ConstantDesc[] keysAndValues(final ConstantDesc[] entries) {
+    final ConstantDesc[] keysAndValues = new ConstantDesc[entries.length * 2];
+    for (int i = 0; i < entries.length; i++) {
+      if (entries[i] instanceof DynamicConstantDesc<?> e && BSM_ENTRY.equals(e.bootstrapMethod())) {
+        keysAndValues[2 * i] = e.bootstrapArgs()[0];
+        keysAndValues[2 * i + 1] = e.bootstrapArgs()[1];
+      } else {
+        return null;
+      }
+    }
+    return keysAndValues;
+  }
+
+  private static final ConstantDesc[] prepend(final ConstantDesc first, final ConstantDesc[] rest) {
+    final ConstantDesc[] a = new ConstantDesc[rest.length + 1];
+    a[0] = first;
+    System.arraycopy(rest, 0, a, 1, rest.length);
+    return a;
+  }
+
   private static final <T> Optional<? extends ConstantDesc> empty(final T ignored) {
     return Optional.empty();
   }
 
   private static final ConstantDesc describeComparator(final Comparator<?> comparator,
                                                        final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf) {
+    if (comparator == null) {
+      return NULL;
+    }
+    final ConstantDesc comparatorDesc = describeJdkComparator(comparator, cf);
     return
-      comparator == null ? NULL :
+      comparatorDesc != null ? comparatorDesc :
       comparator instanceof Constable c ? c.describeConstable().orElse(null) :
       cf == null ? null :
       cf.apply(comparator).orElse(null);
   }
 
+  // Returns a ConstantDesc describing o if it is a JDK Comparator recognized by this class and any Comparator it wraps
+  // can be described (using cf if needed), or null otherwise.
+  private static final ConstantDesc describeJdkComparator(final Object o,
+                                                          final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf) {
+    if (!(o instanceof Comparator<?> comparator)) {
+      return null;
+    } else if (comparator == NATURAL_ORDER) {
+      // Comparator.naturalOrder()
+      return callInterfaceStatic(CD_Comparator, "naturalOrder", CD_Comparator);
+    } else if (comparator == REVERSE_ORDER) {
+      // Comparator.reverseOrder()
+      return callInterfaceStatic(CD_Comparator, "reverseOrder", CD_Comparator);
+    } else if (comparator == String.CASE_INSENSITIVE_ORDER) {
+      // String.CASE_INSENSITIVE_ORDER
+      return DynamicConstantDesc.ofNamed(BSM_GET_STATIC_FINAL, "CASE_INSENSITIVE_ORDER", CD_Comparator, CD_String);
+    } else if (comparator.getClass() == REVERSE_COMPARATOR_CLASS) {
+      final ConstantDesc reversedDesc = describeComparator(comparator.reversed(), cf);
+      return
+        reversedDesc == null ? null :
+        // Collections.reverseOrder(Comparator)
+        callStatic(CD_Collections, "reverseOrder", MethodTypeDesc.of(CD_Comparator, CD_Comparator), reversedDesc);
+    } else if (comparator.getClass() == NULL_COMPARATOR_CLASS && NULL_COMPARATOR_REAL_FIELD != null) {
+      return describeNullComparator(comparator, cf);
+    }
+    return null;
+  }
+
+  private static final ConstantDesc describeNullComparator(final Comparator<?> comparator,
+                                                           final Function<? super Comparator<?>, ? extends Optional<? extends ConstantDesc>> cf) {
+    assert comparator.getClass() == NULL_COMPARATOR_CLASS;
+    final Comparator<?> real;
+    try {
+      real = (Comparator<?>)NULL_COMPARATOR_REAL_FIELD.get(comparator);
+    } catch (final IllegalAccessException e) {
+      throw new AssertionError(e.getMessage(), e);
+    }
+    final ConstantDesc realDesc = describeComparator(real, cf);
+    if (realDesc == null) {
+      return null;
+    }
+    // A null-friendly Comparator is always either less than or greater than a non-null argument.
+    @SuppressWarnings("unchecked")
+    final boolean nullsFirst = ((Comparator<Object>)comparator).compare(null, Boolean.TRUE) < 0;
+    // Comparator.nullsFirst(Comparator) or Comparator.nullsLast(Comparator)
+    return
+      callInterfaceStatic(CD_Comparator,
+                          nullsFirst ? "nullsFirst" : "nullsLast",
+                          MethodTypeDesc.of(CD_Comparator, CD_Comparator),
+                          realDesc);
+  }
+
+  private static final Field accessibleField(final Class<?> c, final String name) {
+    final Field f;
+    try {
+      f = c.getDeclaredField(name);
+    } catch (final NoSuchFieldException e) {
+      return null;
+    }
+    return f.trySetAccessible() ? f : null;
+  }
+
+  private static final DynamicConstantDesc<?> describeZoneId(final ZoneId zi) {
+    return
+      zi instanceof ZoneOffset zo ? describeZoneOffset(zo) :
+      // ZoneId.of(String); a region's identifier is its only public, stable representation.
+      callStatic(CD_ZoneId, "of", MethodTypeDesc.of(CD_ZoneId, CD_String), zi.getId());
+  }
+
+  private static final DynamicConstantDesc<?> describeZoneOffset(final ZoneOffset zo) {
+    // ZoneOffset.ofTotalSeconds(int)
+    return callStatic(CD_ZoneOffset, "ofTotalSeconds", MethodTypeDesc.of(CD_ZoneOffset, CD_int), zo.getTotalSeconds());
+  }
+
   private static final DynamicConstantDesc<?> asList(final ConstantDesc[] args) {
     return callStatic(CD_Arrays, "asList", MethodTypeDesc.of(CD_List, CD_Object.arrayType()), args);
   }
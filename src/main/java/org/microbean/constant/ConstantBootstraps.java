@@ -0,0 +1,310 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.invoke.MethodHandles.Lookup;
+
+import java.math.BigInteger;
+
+import java.nio.ByteBuffer;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A utility class containing dynamic constant bootstrap methods that build immutable collections, {@link Entry}s,
+ * {@link Optional}s and {@link BigInteger}s directly from their static arguments.
+ *
+ * <p>Unlike {@link java.lang.invoke.ConstantBootstraps#invoke(Lookup, String, Class, java.lang.invoke.MethodHandle,
+ * Object...)}, these bootstrap methods do not need a {@link java.lang.invoke.MethodHandle} static argument and do not
+ * re-spread their arguments with {@link java.lang.invoke.MethodHandle#invokeWithArguments(Object...)}.  {@link
+ * Map}-producing bootstrap methods take alternating keys and values, so no {@link Entry} constants need to be resolved
+ * on their behalf.</p>
+ *
+ * <p>All bootstrap methods in this class are deterministic and free of side effects.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_parent">Laird Nelson</a>
+ *
+ * @see Constables#lean(java.lang.constant.ConstantDesc)
+ */
+public final class ConstantBootstraps {
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private ConstantBootstraps() {
+    super();
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  /**
+   * Returns an unmodifiable {@link List} containing the supplied elements, some of which may be {@code null}.
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param elements the elements; may be {@code null} only if empty
+   *
+   * @return an unmodifiable {@link List}; never {@code null}
+   */
+  public static final List<?> list(final Lookup lookup, final String name, final Class<?> type, final Object... elements) {
+    if (elements == null || elements.length == 0) {
+      return List.of();
+    }
+    // The JVM always supplies a fresh array, so it can be wrapped without copying.
+    return containsNull(elements) ? Collections.unmodifiableList(Arrays.asList(elements)) : List.of(elements);
+  }
+
+  /**
+   * Returns an unmodifiable {@link Set} containing the supplied distinct elements, one of which may be {@code null}.
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param elements the elements; may be {@code null} only if empty
+   *
+   * @return an unmodifiable {@link Set}; never {@code null}
+   *
+   * @exception IllegalArgumentException if there are duplicate elements
+   */
+  public static final Set<?> set(final Lookup lookup, final String name, final Class<?> type, final Object... elements) {
+    if (elements == null || elements.length == 0) {
+      return Set.of();
+    } else if (containsNull(elements)) {
+      final Set<Object> set = new HashSet<>(Arrays.asList(elements));
+      if (set.size() != elements.length) {
+        throw new IllegalArgumentException("duplicate element");
+      }
+      return Collections.unmodifiableSet(set);
+    }
+    return Set.of(elements);
+  }
+
+  /**
+   * Returns an unmodifiable {@link Map} containing the supplied keys and values.
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param keysAndValues alternating non-{@code null} keys and values; may be {@code null} only if empty
+   *
+   * @return an unmodifiable {@link Map}; never {@code null}
+   *
+   * @exception IllegalArgumentException if {@code keysAndValues} has an odd number of elements, or if there are
+   * duplicate keys
+   *
+   * @exception NullPointerException if any key or value is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static final Map<?, ?> map(final Lookup lookup, final String name, final Class<?> type, final Object... keysAndValues) {
+    if (keysAndValues == null || keysAndValues.length == 0) {
+      return Map.of();
+    }
+    return Map.ofEntries(entries(keysAndValues));
+  }
+
+  /**
+   * Returns an immutable {@link Entry} with the supplied key and value.
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param key the key; may be {@code null}
+   *
+   * @param value the value; may be {@code null}
+   *
+   * @return an immutable {@link Entry}; never {@code null}
+   */
+  public static final Entry<?, ?> entry(final Lookup lookup, final String name, final Class<?> type, final Object key, final Object value) {
+    return key == null || value == null ? new SimpleImmutableEntry<>(key, value) : Map.entry(key, value);
+  }
+
+  /**
+   * Returns an {@link Optional} housing the sole supplied value, or an {@linkplain Optional#empty() empty
+   * <code>Optional</code>} if there is no such value or it is {@code null}.
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param value zero or one values; may be {@code null}
+   *
+   * @return an {@link Optional}; never {@code null}
+   *
+   * @exception IllegalArgumentException if more than one value is supplied
+   */
+  public static final Optional<?> optional(final Lookup lookup, final String name, final Class<?> type, final Object... value) {
+    if (value == null || value.length == 0) {
+      return Optional.empty();
+    } else if (value.length > 1) {
+      throw new IllegalArgumentException("value.length > 1: " + value.length);
+    }
+    return Optional.ofNullable(value[0]);
+  }
+
+  /**
+   * Returns an unmodifiable {@link SortedSet} containing the supplied elements, sorted by the supplied {@link
+   * Comparator}.
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param comparator the {@link Comparator}; may be {@code null} in which case natural ordering is used
+   *
+   * @param elements the elements; may be {@code null} only if empty
+   *
+   * @return an unmodifiable {@link SortedSet}; never {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static final SortedSet<?> sortedSet(final Lookup lookup,
+                                             final String name,
+                                             final Class<?> type,
+                                             final Comparator<?> comparator,
+                                             final Object... elements) {
+    final SortedSet<Object> set = new TreeSet<>((Comparator<Object>)comparator);
+    if (elements != null) {
+      Collections.addAll(set, elements);
+    }
+    return Collections.unmodifiableSortedSet(set);
+  }
+
+  /**
+   * Returns an unmodifiable {@link SortedMap} containing the supplied keys and values, sorted by the supplied {@link
+   * Comparator}.
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param comparator the {@link Comparator}; may be {@code null} in which case natural ordering is used
+   *
+   * @param keysAndValues alternating keys and values; may be {@code null} only if empty
+   *
+   * @return an unmodifiable {@link SortedMap}; never {@code null}
+   *
+   * @exception IllegalArgumentException if {@code keysAndValues} has an odd number of elements
+   */
+  @SuppressWarnings("unchecked")
+  public static final SortedMap<?, ?> sortedMap(final Lookup lookup,
+                                                final String name,
+                                                final Class<?> type,
+                                                final Comparator<?> comparator,
+                                                final Object... keysAndValues) {
+    final SortedMap<Object, Object> map = new TreeMap<>((Comparator<Object>)comparator);
+    if (keysAndValues != null) {
+      if (keysAndValues.length % 2 != 0) {
+        throw new IllegalArgumentException("keysAndValues.length: " + keysAndValues.length);
+      }
+      for (int i = 0; i < keysAndValues.length; i += 2) {
+        map.put(keysAndValues[i], keysAndValues[i + 1]);
+      }
+    }
+    return Collections.unmodifiableSortedMap(map);
+  }
+
+  /**
+   * Returns a {@link BigInteger} with the supplied signum and magnitude.
+   *
+   * <p>Unlike {@link BigInteger#BigInteger(String, int)}, this bootstrap method does not parse its arguments.</p>
+   *
+   * @param lookup ignored
+   *
+   * @param name ignored
+   *
+   * @param type ignored
+   *
+   * @param signum {@code -1}, {@code 0} or {@code 1}
+   *
+   * @param magnitude the magnitude, most significant {@code long} first, as if by {@link
+   * BigInteger#BigInteger(int, byte[])}; may be {@code null} only if empty
+   *
+   * @return a {@link BigInteger}; never {@code null}
+   *
+   * @exception NumberFormatException if {@code signum} is not {@code -1}, {@code 0} or {@code 1}, or if it is {@code 0}
+   * and the magnitude is not
+   */
+  public static final BigInteger bigInteger(final Lookup lookup,
+                                            final String name,
+                                            final Class<?> type,
+                                            final int signum,
+                                            final long... magnitude) {
+    if (magnitude == null || magnitude.length == 0) {
+      return new BigInteger(signum, new byte[0]);
+    }
+    final byte[] bytes = new byte[magnitude.length * Long.BYTES];
+    ByteBuffer.wrap(bytes).asLongBuffer().put(magnitude);
+    return new BigInteger(signum, bytes);
+  }
+
+  private static final boolean containsNull(final Object[] elements) {
+    for (final Object element : elements) {
+      if (element == null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static final Entry[] entries(final Object[] keysAndValues) {
+    if (keysAndValues.length % 2 != 0) {
+      throw new IllegalArgumentException("keysAndValues.length: " + keysAndValues.length);
+    }
+    final Entry[] entries = new Entry[keysAndValues.length / 2];
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = Map.entry(keysAndValues[2 * i], keysAndValues[2 * i + 1]);
+    }
+    return entries;
+  }
+
+}
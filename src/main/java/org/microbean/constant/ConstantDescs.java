@@ -1,6 +1,6 @@
 /* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
  *
- * Copyright © 2022–2025 microBean™.
+ * Copyright © 2022–2026 microBean™.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License.  You may obtain a copy of the License at
@@ -35,6 +35,20 @@ public final class ConstantDescs {
    */
   public static final ClassDesc CD_Arrays = ClassDesc.of("java.util.Arrays");
 
+  /**
+   * A {@link ClassDesc} describing {@link java.math.BigDecimal java.math.BigDecimal}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_BigDecimal = ClassDesc.of("java.math.BigDecimal");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.math.BigInteger java.math.BigInteger}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_BigInteger = ClassDesc.of("java.math.BigInteger");
+
   /**
    * A {@link ClassDesc} describing {@link java.util.Collections java.util.Collections}.
    *
@@ -56,6 +70,13 @@ public final class ConstantDescs {
    */
   public static final ClassDesc CD_Comparator = ClassDesc.of("java.util.Comparator");
 
+  /**
+   * A {@link ClassDesc} describing {@link ConstantBootstraps org.microbean.constant.ConstantBootstraps}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_ConstantBootstraps = ClassDesc.of("org.microbean.constant.ConstantBootstraps");
+
   /**
    * A {@link ClassDesc} describing {@link java.lang.constant.Constable java.lang.constant.Constable}.
    *
@@ -63,6 +84,13 @@ public final class ConstantDescs {
    */
   public static final ClassDesc CD_Constable = ClassDesc.of("java.lang.constant.Constable");
 
+  /**
+   * A {@link ClassDesc} describing {@link java.time.Duration java.time.Duration}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_Duration = ClassDesc.of("java.time.Duration");
+
   /**
    * A {@link ClassDesc} describing {@link java.util.HashSet java.util.HashSet}.
    *
@@ -77,6 +105,13 @@ public final class ConstantDescs {
    */
   public static final ClassDesc CD_HashSet = ClassDesc.of("java.util.HashSet");
 
+  /**
+   * A {@link ClassDesc} describing {@link java.time.Instant java.time.Instant}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_Instant = ClassDesc.of("java.time.Instant");
+
   /**
    * A {@link ClassDesc} describing {@link Iterable}.
    *
@@ -84,6 +119,48 @@ public final class ConstantDescs {
    */
   public static final ClassDesc CD_Iterable = ClassDesc.of("java.lang.Iterable");
 
+  /**
+   * A {@link ClassDesc} describing {@link java.time.LocalDate java.time.LocalDate}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_LocalDate = ClassDesc.of("java.time.LocalDate");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.LocalDateTime java.time.LocalDateTime}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_LocalDateTime = ClassDesc.of("java.time.LocalDateTime");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.LocalTime java.time.LocalTime}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_LocalTime = ClassDesc.of("java.time.LocalTime");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.MonthDay java.time.MonthDay}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_MonthDay = ClassDesc.of("java.time.MonthDay");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.OffsetDateTime java.time.OffsetDateTime}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_OffsetDateTime = ClassDesc.of("java.time.OffsetDateTime");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.OffsetTime java.time.OffsetTime}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_OffsetTime = ClassDesc.of("java.time.OffsetTime");
+
   /**
    * A {@link ClassDesc} describing {@link java.util.Optional java.util.Optional}.
    *
@@ -91,6 +168,13 @@ public final class ConstantDescs {
    */
   public static final ClassDesc CD_Optional = ClassDesc.of("java.util.Optional");
 
+  /**
+   * A {@link ClassDesc} describing {@link java.time.Period java.time.Period}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_Period = ClassDesc.of("java.time.Period");
+
   /**
    * A {@link ClassDesc} describing {@link java.util.AbstractMap.SimpleImmutableEntry
    * java.util.AbstractMap.SimpleImmutableEntry}.
@@ -127,6 +211,48 @@ public final class ConstantDescs {
    */
   public static final ClassDesc CD_TreeSet = ClassDesc.of("java.util.TreeSet");
 
+  /**
+   * A {@link ClassDesc} describing {@link java.util.UUID java.util.UUID}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_UUID = ClassDesc.of("java.util.UUID");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.Year java.time.Year}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_Year = ClassDesc.of("java.time.Year");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.YearMonth java.time.YearMonth}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_YearMonth = ClassDesc.of("java.time.YearMonth");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.ZoneId java.time.ZoneId}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_ZoneId = ClassDesc.of("java.time.ZoneId");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.ZoneOffset java.time.ZoneOffset}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_ZoneOffset = ClassDesc.of("java.time.ZoneOffset");
+
+  /**
+   * A {@link ClassDesc} describing {@link java.time.ZonedDateTime java.time.ZonedDateTime}.
+   *
+   * @microbean.nullability This field is never {@code null}.
+   */
+  public static final ClassDesc CD_ZonedDateTime = ClassDesc.of("java.time.ZonedDateTime");
+
 
   /*
    * Constructors.
@@ -0,0 +1,271 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DynamicConstantDesc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A resolver of {@link ConstantDesc}s that resolves the bootstrap arguments of large {@link DynamicConstantDesc}s in
+ * parallel on a {@link ForkJoinPool}.
+ *
+ * <p>A {@link DynamicConstantDesc} is resolved in the same way as {@link
+ * DynamicConstantDesc#resolveConstantDesc(Lookup)} resolves it: its bootstrap method and constant type are resolved,
+ * then its bootstrap arguments are resolved, then the bootstrap method is invoked.  If a {@link DynamicConstantDesc} has
+ * at least {@linkplain #threshold() threshold} bootstrap arguments, they are divided into batches of at most
+ * {@linkplain #threshold() threshold} arguments that are resolved, recursively, in parallel.  The parent's bootstrap
+ * method is invoked only once all of its arguments have been resolved.  Bootstrap methods are therefore invoked on
+ * threads of the {@link ForkJoinPool}, and must be safe for concurrent use, as are all of those used by {@link
+ * Constables} and {@link ConstantBootstraps}.</p>
+ *
+ * <p>Results are identical to those of sequential resolution.  Errors are deterministic.  If more than one bootstrap
+ * argument cannot be resolved, the {@link Throwable} thrown is the one raised by the first such argument in argument
+ * order, as it would be during sequential resolution, and it is wrapped in the same way.</p>
+ *
+ * <p>{@link DynamicConstantDesc} subclasses that override {@link DynamicConstantDesc#resolveConstantDesc(Lookup)},
+ * such as {@link Enum.EnumDesc}, are resolved by that method, as are all other {@link ConstantDesc}s.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_parent">Laird Nelson</a>
+ *
+ * @see #resolve(ConstantDesc, Lookup)
+ */
+public final class ParallelResolver {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  // Whether instances of a given DynamicConstantDesc subclass are resolved by DynamicConstantDesc's own
+  // resolveConstantDesc(Lookup) implementation, i.e. by invoking their bootstrap methods.
+  private static final ClassValue<Boolean> RESOLVED_BY_BOOTSTRAP = new ClassValue<>() {
+      @Override
+      protected final Boolean computeValue(final Class<?> c) {
+        try {
+          return c.getMethod("resolveConstantDesc", Lookup.class).getDeclaringClass() == DynamicConstantDesc.class;
+        } catch (final NoSuchMethodException e) {
+          return Boolean.FALSE;
+        }
+      }
+    };
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final ForkJoinPool pool;
+
+  private final int threshold;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link ParallelResolver} that uses the {@linkplain ForkJoinPool#commonPool() common pool} and a
+   * {@linkplain #threshold() threshold} of {@code 256}.
+   *
+   * @see #ParallelResolver(ForkJoinPool, int)
+   */
+  public ParallelResolver() {
+    this(ForkJoinPool.commonPool(), 256);
+  }
+
+  /**
+   * Creates a new {@link ParallelResolver}.
+   *
+   * @param pool the {@link ForkJoinPool} on which resolution will take place; must not be {@code null}
+   *
+   * @param threshold the minimum number of bootstrap arguments a {@link DynamicConstantDesc} must have for them to be
+   * resolved in parallel, and the maximum number of bootstrap arguments resolved by any one task; must be greater than
+   * {@code 0}
+   *
+   * @exception NullPointerException if {@code pool} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code threshold} is less than or equal to {@code 0}
+   */
+  public ParallelResolver(final ForkJoinPool pool, final int threshold) {
+    super();
+    this.pool = Objects.requireNonNull(pool, "pool");
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("threshold: " + threshold);
+    }
+    this.threshold = threshold;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the {@link ForkJoinPool} on which resolution takes place.
+   *
+   * @return the {@link ForkJoinPool}; never {@code null}
+   */
+  public final ForkJoinPool pool() {
+    return this.pool;
+  }
+
+  /**
+   * Returns the minimum number of bootstrap arguments a {@link DynamicConstantDesc} must have for them to be resolved in
+   * parallel, which is also the maximum number of bootstrap arguments resolved by any one task.
+   *
+   * @return the threshold; always greater than {@code 0}
+   */
+  public final int threshold() {
+    return this.threshold;
+  }
+
+  /**
+   * Resolves the supplied {@link ConstantDesc} in the same way as {@link ConstantDesc#resolveConstantDesc(Lookup)}, but
+   * resolving the bootstrap arguments of large {@link DynamicConstantDesc}s in parallel.
+   *
+   * @param cd the {@link ConstantDesc} to resolve; must not be {@code null}
+   *
+   * @param lookup the {@link Lookup} to use; must not be {@code null}
+   *
+   * @return the resolved constant, which may be {@code null}
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   *
+   * @exception ReflectiveOperationException if {@code cd} is not a {@link DynamicConstantDesc} and could not be
+   * resolved
+   *
+   * @exception BootstrapMethodError if {@code cd} is a {@link DynamicConstantDesc} and could not be resolved
+   *
+   * @microbean.idempotency This method is idempotent and deterministic if the bootstrap methods involved are.
+   *
+   * @microbean.threadsafety This method is safe for concurrent use by multiple threads.
+   */
+  public final Object resolve(final ConstantDesc cd, final Lookup lookup) throws ReflectiveOperationException {
+    Objects.requireNonNull(lookup, "lookup");
+    if (!(Objects.requireNonNull(cd, "cd") instanceof DynamicConstantDesc<?> dcd) ||
+        !RESOLVED_BY_BOOTSTRAP.get(cd.getClass())) {
+      return cd.resolveConstantDesc(lookup);
+    }
+    try {
+      final MethodHandle bsm = (MethodHandle)dcd.bootstrapMethod().resolveConstantDesc(lookup);
+      if (bsm.type().parameterCount() < 2 || !Lookup.class.isAssignableFrom(bsm.type().parameterType(0))) {
+        throw new BootstrapMethodError("Invalid bootstrap method declared for resolving a dynamic constant: " +
+                                       dcd.bootstrapMethod());
+      }
+      final ConstantDesc[] args = dcd.bootstrapArgs();
+      final Object[] bsmArgs = new Object[3 + args.length];
+      bsmArgs[0] = lookup;
+      bsmArgs[1] = dcd.constantName();
+      bsmArgs[2] = dcd.constantType().resolveConstantDesc(lookup);
+      if (args.length < this.threshold) {
+        for (int i = 0; i < args.length; i++) {
+          bsmArgs[3 + i] = this.resolve(args[i], lookup);
+        }
+      } else {
+        final Throwable[] errors = new Throwable[args.length];
+        final Batch batch = new Batch(lookup, args, 0, args.length, bsmArgs, errors);
+        if (ForkJoinTask.getPool() == this.pool) {
+          batch.invoke();
+        } else {
+          this.pool.invoke(batch);
+        }
+        // Report the first failure in argument order, as sequential resolution would.
+        for (final Throwable e : errors) {
+          if (e != null) {
+            throw e;
+          }
+        }
+      }
+      return bsm.invokeWithArguments(bsmArgs);
+    } catch (final Error e) {
+      throw e;
+    } catch (final Throwable t) {
+      throw new BootstrapMethodError(t);
+    }
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  // Resolves args[from] through args[to - 1] into results[3 + from] through results[3 + to - 1], recording any failure
+  // in the corresponding element of errors rather than throwing it, so that the caller, not the pool, decides which
+  // failure is reported.
+  private final class Batch extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Lookup lookup;
+
+    private final transient ConstantDesc[] args;
+
+    private final int from;
+
+    private final int to;
+
+    private final transient Object[] results;
+
+    private final transient Throwable[] errors;
+
+    private Batch(final Lookup lookup,
+                  final ConstantDesc[] args,
+                  final int from,
+                  final int to,
+                  final Object[] results,
+                  final Throwable[] errors) {
+      super();
+      this.lookup = lookup;
+      this.args = args;
+      this.from = from;
+      this.to = to;
+      this.results = results;
+      this.errors = errors;
+    }
+
+    @Override
+    protected final void compute() {
+      final int threshold = ParallelResolver.this.threshold;
+      if (this.to - this.from <= threshold) {
+        for (int i = this.from; i < this.to; i++) {
+          try {
+            this.results[3 + i] = ParallelResolver.this.resolve(this.args[i], this.lookup);
+          } catch (final Throwable e) {
+            this.errors[i] = e;
+          }
+        }
+      } else {
+        final int middle = (this.from + this.to) >>> 1;
+        invokeAll(new Batch(this.lookup, this.args, this.from, middle, this.results, this.errors),
+                  new Batch(this.lookup, this.args, middle, this.to, this.results, this.errors));
+      }
+    }
+
+  }
+
+}
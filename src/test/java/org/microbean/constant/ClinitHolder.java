@@ -0,0 +1,30 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+// Builds, in its static initializer, the same value that TestStartup otherwise describes with Constables.
+public final class ClinitHolder {
+
+  private static final Object VALUE =
+    StartupProbe.value(System.getProperty(StartupProbe.SHAPE_PROPERTY), Integer.getInteger(StartupProbe.SIZE_PROPERTY));
+
+  private ClinitHolder() {
+    super();
+  }
+
+  public static final Object value() {
+    return VALUE;
+  }
+
+}
@@ -0,0 +1,301 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DirectMethodHandleDesc;
+import java.lang.constant.DynamicConstantDesc;
+import java.lang.constant.MethodTypeDesc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.function.IntSupplier;
+
+import static java.lang.constant.ConstantDescs.BSM_PRIMITIVE_CLASS;
+import static java.lang.constant.ConstantDescs.CD_Class;
+
+// Writes a minimal class file whose public static Object value() method loads a single dynamic constant (condy) with
+// ldc. Only what is needed to load a ConstantDesc tree produced by Constables is supported.
+final class CondyClassWriter {
+
+  private static final int CLASS_FILE_VERSION = 55; // Java 11; the first version supporting CONSTANT_Dynamic
+
+  private final List<byte[]> constantPool;
+
+  private final Map<List<?>, Integer> constantPoolIndices;
+
+  private int constantPoolCount;
+
+  private final List<int[]> bootstrapMethods;
+
+  private final Map<List<Integer>, Integer> bootstrapMethodIndices;
+
+  private int dynamicConstantCount;
+
+  CondyClassWriter() {
+    super();
+    this.constantPool = new ArrayList<>();
+    this.constantPoolIndices = new HashMap<>();
+    this.constantPoolCount = 1; // constant pool indices start at 1
+    this.bootstrapMethods = new ArrayList<>();
+    this.bootstrapMethodIndices = new HashMap<>();
+  }
+
+  // The number of distinct CONSTANT_Dynamic entries written, i.e. the number of bootstrap method invocations needed to
+  // resolve the constant loaded by value().
+  final int dynamicConstantCount() {
+    return this.dynamicConstantCount;
+  }
+
+  final byte[] write(final String binaryName, final DynamicConstantDesc<?> value) {
+    if (value.constantType().isPrimitive()) {
+      throw new IllegalArgumentException("value: " + value);
+    }
+    return this.write(binaryName, () -> this.index(value));
+  }
+
+  // Writes the nodes of value straight into the constant pool, without expanding it into DynamicConstantDescs.
+  final byte[] write(final String binaryName, final CompactDescription value) {
+    return this.write(binaryName, () -> value.accept(new CompactDescription.Visitor<Integer>() {
+        @Override
+        public final Integer constant(final ConstantDesc constant) {
+          return CondyClassWriter.this.index(constant);
+        }
+
+        @Override
+        public final Integer dynamic(final DirectMethodHandleDesc bootstrapMethod,
+                                     final String name,
+                                     final ClassDesc type,
+                                     final List<Integer> arguments) {
+          return CondyClassWriter.this.dynamicEntry(CondyClassWriter.this.index(bootstrapMethod), arguments, name, type);
+        }
+      }));
+  }
+
+  private final byte[] write(final String binaryName, final IntSupplier value) {
+    final int thisClass = this.classEntry(binaryName.replace('.', '/'));
+    final int superClass = this.classEntry("java/lang/Object");
+    final int methodName = this.utf8("value");
+    final int methodDescriptor = this.utf8("()Ljava/lang/Object;");
+    final int code = this.utf8("Code");
+    final int ldcIndex = value.getAsInt();
+    final int bootstrapMethodsAttribute = this.utf8("BootstrapMethods");
+    try {
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      final DataOutputStream out = new DataOutputStream(baos);
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0); // minor version
+      out.writeShort(CLASS_FILE_VERSION);
+      out.writeShort(this.constantPoolCount);
+      for (final byte[] entry : this.constantPool) {
+        out.write(entry);
+      }
+      out.writeShort(0x0001 | 0x0010 | 0x0020); // ACC_PUBLIC | ACC_FINAL | ACC_SUPER
+      out.writeShort(thisClass);
+      out.writeShort(superClass);
+      out.writeShort(0); // interfaces
+      out.writeShort(0); // fields
+      out.writeShort(1); // methods
+      out.writeShort(0x0001 | 0x0008); // ACC_PUBLIC | ACC_STATIC
+      out.writeShort(methodName);
+      out.writeShort(methodDescriptor);
+      out.writeShort(1); // attributes
+      out.writeShort(code);
+      out.writeInt(2 + 2 + 4 + 4 + 2 + 2); // attribute length
+      out.writeShort(1); // max stack
+      out.writeShort(0); // max locals
+      out.writeInt(4); // code length
+      out.writeByte(0x13); // ldc_w
+      out.writeShort(ldcIndex);
+      out.writeByte(0xB0); // areturn
+      out.writeShort(0); // exception table length
+      out.writeShort(0); // code attributes
+      out.writeShort(1); // class attributes
+      out.writeShort(bootstrapMethodsAttribute);
+      int length = 2;
+      for (final int[] bsm : this.bootstrapMethods) {
+        length += 2 * bsm.length + 2;
+      }
+      out.writeInt(length);
+      out.writeShort(this.bootstrapMethods.size());
+      for (final int[] bsm : this.bootstrapMethods) {
+        out.writeShort(bsm[0]);
+        out.writeShort(bsm.length - 1);
+        for (int i = 1; i < bsm.length; i++) {
+          out.writeShort(bsm[i]);
+        }
+      }
+      out.flush();
+      return baos.toByteArray();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+  }
+
+  private final int index(final ConstantDesc cd) {
+    if (cd instanceof String s) {
+      return this.entry(List.of(8, s), 1, 8, this.utf8(s));
+    } else if (cd instanceof Integer i) {
+      return this.entry(List.of(3, i), 1, 3, i.intValue());
+    } else if (cd instanceof Float f) {
+      return this.entry(List.of(4, Float.floatToRawIntBits(f)), 1, 4, Float.floatToRawIntBits(f));
+    } else if (cd instanceof Long l) {
+      return this.entry(List.of(5, l), 2, 5, (int)(l >>> 32), l.intValue());
+    } else if (cd instanceof Double d) {
+      final long bits = Double.doubleToRawLongBits(d);
+      return this.entry(List.of(6, bits), 2, 6, (int)(bits >>> 32), (int)bits);
+    } else if (cd instanceof ClassDesc c) {
+      if (c.isPrimitive()) {
+        return this.index(DynamicConstantDesc.ofNamed(BSM_PRIMITIVE_CLASS, c.descriptorString(), CD_Class));
+      }
+      return this.classEntry(c.isArray() ? c.descriptorString() : internalName(c));
+    } else if (cd instanceof MethodTypeDesc mtd) {
+      final String descriptor = mtd.descriptorString();
+      return this.entry(List.of(16, descriptor), 1, 16, this.utf8(descriptor));
+    } else if (cd instanceof DirectMethodHandleDesc mh) {
+      final int referenceTag = switch (mh.kind()) {
+      case GETTER, SETTER, STATIC_GETTER, STATIC_SETTER -> 9; // Fieldref
+      default -> mh.isOwnerInterface() ? 11 : 10; // InterfaceMethodref, Methodref
+      };
+      final int owner = this.classEntry(internalName(mh.owner()));
+      final int nameAndType = this.nameAndType(mh.methodName(), mh.lookupDescriptor());
+      final int reference = this.entry(List.of(referenceTag, owner, nameAndType), 1, referenceTag, owner, nameAndType);
+      return this.entry(List.of(15, mh.refKind(), reference), 1, 15, -mh.refKind(), reference);
+    } else if (cd instanceof DynamicConstantDesc<?> dcd) {
+      final int bootstrapMethod = this.index(dcd.bootstrapMethod());
+      final ConstantDesc[] args = dcd.bootstrapArgs();
+      final List<Integer> argIndices = new ArrayList<>(args.length);
+      for (final ConstantDesc arg : args) {
+        argIndices.add(this.index(arg));
+      }
+      return this.dynamicEntry(bootstrapMethod, argIndices, dcd.constantName(), dcd.constantType());
+    }
+    throw new IllegalArgumentException("cd: " + cd);
+  }
+
+  private final int dynamicEntry(final int bootstrapMethod, final List<Integer> args, final String name, final ClassDesc type) {
+    final List<Integer> bsm = new ArrayList<>(args.size() + 1);
+    bsm.add(bootstrapMethod);
+    bsm.addAll(args);
+    final int bsmIndex = this.bootstrapMethodIndices.computeIfAbsent(bsm, this::addBootstrapMethod);
+    final int nameAndType = this.nameAndType(name, type.descriptorString());
+    final List<?> key = List.of(17, bsmIndex, nameAndType);
+    if (!this.constantPoolIndices.containsKey(key)) {
+      ++this.dynamicConstantCount;
+    }
+    return this.entry(key, 1, 17, bsmIndex, nameAndType);
+  }
+
+  private final int addBootstrapMethod(final List<Integer> bsm) {
+    final int[] a = new int[bsm.size()];
+    for (int i = 0; i < a.length; i++) {
+      a[i] = bsm.get(i);
+    }
+    this.bootstrapMethods.add(a);
+    return this.bootstrapMethods.size() - 1;
+  }
+
+  private final int classEntry(final String internalName) {
+    return this.entry(List.of(7, internalName), 1, 7, this.utf8(internalName));
+  }
+
+  private final int nameAndType(final String name, final String descriptor) {
+    final int n = this.utf8(name);
+    final int d = this.utf8(descriptor);
+    return this.entry(List.of(12, n, d), 1, 12, n, d);
+  }
+
+  private final int utf8(final String s) {
+    final List<?> key = List.of(1, s);
+    final Integer index = this.constantPoolIndices.get(key);
+    if (index != null) {
+      return index;
+    }
+    try {
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      final DataOutputStream out = new DataOutputStream(baos);
+      out.writeByte(1);
+      out.writeUTF(s);
+      out.flush();
+      return this.add(key, 1, baos.toByteArray());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+  }
+
+  // Adds (if necessary) a constant pool entry consisting of a one-byte tag followed by the supplied values. Negative
+  // values are written as single bytes; values that are indices are written as shorts; everything else is written as
+  // an int.
+  private final int entry(final List<?> key, final int slots, final int tag, final int... values) {
+    final Integer index = this.constantPoolIndices.get(key);
+    if (index != null) {
+      return index;
+    }
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    baos.write(tag);
+    switch (tag) {
+    case 3, 4, 5, 6 -> { // Integer, Float, Long, Double
+      for (final int v : values) {
+        writeInt(baos, v);
+      }
+    }
+    default -> {
+      for (final int v : values) {
+        if (v < 0) {
+          baos.write(-v);
+        } else {
+          writeShort(baos, v);
+        }
+      }
+    }
+    }
+    return this.add(key, slots, baos.toByteArray());
+  }
+
+  private final int add(final List<?> key, final int slots, final byte[] bytes) {
+    final int index = this.constantPoolCount;
+    if (index + slots > 0xFFFF) {
+      throw new IllegalStateException("constant pool too large");
+    }
+    this.constantPool.add(bytes);
+    this.constantPoolIndices.put(key, index);
+    this.constantPoolCount += slots;
+    return index;
+  }
+
+  private static final String internalName(final ClassDesc c) {
+    final String descriptor = c.descriptorString();
+    return descriptor.substring(1, descriptor.length() - 1);
+  }
+
+  private static final void writeShort(final ByteArrayOutputStream baos, final int v) {
+    baos.write(v >>> 8);
+    baos.write(v);
+  }
+
+  private static final void writeInt(final ByteArrayOutputStream baos, final int v) {
+    writeShort(baos, v >>> 16);
+    writeShort(baos, v);
+  }
+
+}
@@ -0,0 +1,150 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+
+import java.lang.reflect.Method;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// The main class of each JVM forked by TestStartup. Obtains a value in one of several ways (its "encoding") and prints a
+// single line of measurements to System.out.
+final class StartupProbe {
+
+  static final String SHAPE_PROPERTY = "org.microbean.constant.startup.shape";
+
+  static final String SIZE_PROPERTY = "org.microbean.constant.startup.size";
+
+  static final String LAUNCH_PROPERTY = "org.microbean.constant.startup.launchNanos";
+
+  // The names of classes loaded immediately before and after a condy holder's value() method is first invoked, i.e.
+  // before and after its dynamic constant is resolved, so that a class loading log (-Xlog:class+load) can be divided
+  // into what resolution loaded and everything else. They are literals so that no class is loaded or spun to compute
+  // them.
+  static final String RESOLUTION_STARTED = "org.microbean.constant.StartupProbe$ResolutionStarted";
+
+  static final String RESOLUTION_FINISHED = "org.microbean.constant.StartupProbe$ResolutionFinished";
+
+  private StartupProbe() {
+    super();
+  }
+
+  // Usage: StartupProbe condy <holder class name>
+  //        StartupProbe clinit
+  //        StartupProbe serialized <file>
+  public static final void main(final String[] args) throws IOException, ReflectiveOperationException {
+    final long start = System.nanoTime();
+    long resolve = -1L;
+    final Object value = switch (args[0]) {
+    case "condy" -> {
+      final Method m = Class.forName(args[1]).getMethod("value");
+      // Exercise reflective invocation first so that what is loaded between the markers is due to resolution alone.
+      StartupProbe.class.getDeclaredMethod("nothing").invoke(null);
+      Class.forName(RESOLUTION_STARTED);
+      final long resolveStart = System.nanoTime();
+      final Object v = m.invoke(null);
+      resolve = System.nanoTime() - resolveStart;
+      Class.forName(RESOLUTION_FINISHED);
+      yield v;
+    }
+    case "clinit" -> Class.forName(ClinitHolder.class.getName()).getMethod("value").invoke(null);
+    case "serialized" -> {
+      try (final InputStream is = Files.newInputStream(Path.of(args[1]));
+           final ObjectInputStream ois = new ObjectInputStream(is)) {
+        yield ois.readObject();
+      }
+    }
+    default -> throw new IllegalArgumentException("args[0]: " + args[0]);
+    };
+    final long ready = System.nanoTime();
+    final Runtime runtime = Runtime.getRuntime();
+    runtime.gc();
+    runtime.gc();
+    final long heap = runtime.totalMemory() - runtime.freeMemory();
+    // System.nanoTime() is system-wide on the platforms we care about (e.g. Linux), so the launching JVM's notion of
+    // "now" can be compared with ours.
+    final long launch = Long.getLong(LAUNCH_PROPERTY, ready);
+    System.out.println("ready=" + (ready - start) +
+                       " launchToReady=" + (ready - launch) +
+                       " heap=" + heap +
+                       " resolve=" + resolve +
+                       " hash=" + value.hashCode());
+  }
+
+  static final Object nothing() {
+    return null;
+  }
+
+  static final Object value(final String shape, final int size) {
+    switch (shape) {
+    case "list":
+      final List<String> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add("e" + i);
+      }
+      return List.copyOf(list);
+    case "set":
+      final List<String> elements = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        elements.add("e" + i);
+      }
+      return Set.copyOf(elements);
+    case "map":
+      final Map<String, Integer> map = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        map.put("k" + i, i);
+      }
+      return Map.copyOf(map);
+    case "sortedMap":
+      final SortedMap<String, Integer> sortedMap = new TreeMap<>(Comparator.reverseOrder());
+      for (int i = 0; i < size; i++) {
+        sortedMap.put("k" + i, i);
+      }
+      return Collections.unmodifiableSortedMap(sortedMap);
+    default:
+      throw new IllegalArgumentException("shape: " + shape);
+    }
+  }
+
+  private static final class ResolutionStarted {
+
+    private ResolutionStarted() {
+      super();
+    }
+
+  }
+
+  private static final class ResolutionFinished {
+
+    private ResolutionFinished() {
+      super();
+    }
+
+  }
+
+}
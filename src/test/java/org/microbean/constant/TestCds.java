@@ -0,0 +1,307 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.constant.ConstantDesc;
+
+import java.lang.invoke.MethodHandles;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Class data sharing (CDS) and AOT cache workflows. Run the forking tests with mvn -Pcds verify. For each shape, a holder
+// class whose value is a dynamic constant described by Constables, both as is and leaned by Constables#lean(ConstantDesc),
+// is packaged into a jar (CDS archives classes only from jars) and run without an application archive and then with
+// one: a dynamic AppCDS archive created by -XX:ArchiveClassesAtExit or, on Java 24 and later only, an AOT cache. Each
+// run logs the classes it loads, and StartupProbe brackets the resolution of the holder's dynamic constant with marker
+// classes, so the classes loaded, defined or spun (e.g. LambdaForms) while resolving can be told apart from everything
+// else, as can the time resolution took. Results are written to ${project.build.directory}/cds-benchmarks.json and
+// ${project.build.directory}/aot-benchmarks.json.
+final class TestCds {
+
+  private static final String PREFIX = "org.microbean.constant.cds.";
+
+  private TestCds() {
+    super();
+  }
+
+  // Archived runs must be able to rely on the fact that describing and resolving are deterministic and free of side
+  // effects: the same input always yields an equal description, and resolving a description always yields an equal
+  // value.
+  @Test
+  final void testDeterminism() throws ReflectiveOperationException {
+    for (final String shape : List.of("list", "set", "map", "sortedMap")) {
+      final Object value = StartupProbe.value(shape, 100);
+      final ConstantDesc description = Constables.describeConstable(value).orElseThrow();
+      assertEquals(description, Constables.describeConstable(StartupProbe.value(shape, 100)).orElseThrow());
+      final Object first = description.resolveConstantDesc(MethodHandles.lookup());
+      final Object second = description.resolveConstantDesc(MethodHandles.lookup());
+      assertEquals(value, first);
+      assertEquals(first, second);
+    }
+  }
+
+  @EnabledIfSystemProperty(named = "org.microbean.constant.cds", matches = "true")
+  @Test
+  final void testAppCds() throws IOException, InterruptedException {
+    benchmark("appcds", "cds-benchmarks.json");
+  }
+
+  // The -XX:AOTMode, -XX:AOTConfiguration and -XX:AOTCache options exist only on Java 24 and later; on earlier versions
+  // this test is reported as skipped rather than silently passing.
+  @EnabledIfSystemProperty(named = "org.microbean.constant.cds", matches = "true")
+  @Test
+  final void testAotCache() throws IOException, InterruptedException {
+    assumeTrue(Runtime.version().feature() >= 24, () -> "AOT caches require Java 24 or later, not " + Runtime.version());
+    benchmark("aot", "aot-benchmarks.json");
+  }
+
+  private static final void benchmark(final String archivedMode, final String resultsFile)
+    throws IOException, InterruptedException {
+    final List<String> shapes = List.of(System.getProperty(PREFIX + "shapes", "list,set,map,sortedMap").split(","));
+    final int size = Integer.getInteger(PREFIX + "size", 1000);
+    final int runs = Integer.getInteger(PREFIX + "runs", 5);
+    final Path directory = Files.createDirectories(TestStartup.buildDirectory().resolve(archivedMode));
+    final List<String> results = new ArrayList<>();
+    for (final String shape : shapes) {
+      // Lean descriptions (see Constables#lean(ConstantDesc)) are the ones recommended for archived runs; full ones are
+      // measured for comparison.
+      final Map<String, Long> archivedResolutionNotShared = new HashMap<>();
+      for (final String encoding : List.of("condy", "lean")) {
+        final boolean lean = encoding.equals("lean");
+        final Path scenario = Files.createDirectories(directory.resolve(shape + "-" + size + "-" + encoding));
+        final Path classes = Files.createDirectories(scenario.resolve("classes"));
+        final int bootstraps = TestStartup.writeCondyHolder(StartupProbe.value(shape, size), classes, lean);
+        final String classpath = classpath(scenario, classes, lean);
+        final List<String> props = List.of("-D" + StartupProbe.SHAPE_PROPERTY + "=" + shape,
+                                           "-D" + StartupProbe.SIZE_PROPERTY + "=" + size);
+
+        // Training runs.
+        final List<String> archived;
+        if (archivedMode.equals("aot")) {
+          final Path aotConfiguration = scenario.resolve("app.aotconf");
+          final Path aotCache = scenario.resolve("app.aot");
+          Files.deleteIfExists(aotConfiguration);
+          Files.deleteIfExists(aotCache);
+          probe(classpath, props, List.of("-XX:AOTMode=record", "-XX:AOTConfiguration=" + aotConfiguration), null);
+          probe(classpath, props, List.of("-XX:AOTMode=create", "-XX:AOTConfiguration=" + aotConfiguration, "-XX:AOTCache=" + aotCache), null);
+          archived = List.of("-XX:AOTCache=" + aotCache);
+        } else {
+          final Path jsa = scenario.resolve("app.jsa");
+          Files.deleteIfExists(jsa);
+          probe(classpath, props, List.of("-XX:ArchiveClassesAtExit=" + jsa), null);
+          archived = List.of("-XX:SharedArchiveFile=" + jsa);
+        }
+
+        // Measured runs.
+        final Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("none", List.of());
+        modes.put(archivedMode, archived);
+        final Map<String, long[]> unarchived = new HashMap<>();
+        for (final Entry<String, List<String>> e : modes.entrySet()) {
+          final String mode = e.getKey();
+          final long[] ready = new long[runs];
+          final long[] resolve = new long[runs];
+          final long[] loaded = new long[runs];
+          final long[] notShared = new long[runs];
+          final long[] resolutionLoaded = new long[runs];
+          final long[] resolutionNotShared = new long[runs];
+          String hash = null;
+          for (int run = 0; run < runs; run++) {
+            final Path log = scenario.resolve(mode + "-" + run + ".log");
+            final Map<String, String> m = probe(classpath, props, e.getValue(), log);
+            ready[run] = Long.parseLong(m.get("ready"));
+            resolve[run] = Long.parseLong(m.get("resolve"));
+            final List<String> lines = Files.readAllLines(log, StandardCharsets.UTF_8);
+            if (lean) {
+              // Lean descriptions do not need microbean-invoke, which is not on the classpath.
+              assertTrue(lines.stream().noneMatch(l -> l.contains(" org.microbean.invoke.")), log::toString);
+            }
+            loaded[run] = lines.size();
+            notShared[run] = lines.stream().filter(TestCds::notShared).count();
+            final List<String> resolution = resolution(lines);
+            resolutionLoaded[run] = resolution.size();
+            resolutionNotShared[run] = resolution.stream().filter(TestCds::notShared).count();
+            if (hash == null) {
+              hash = m.get("hash");
+            } else {
+              assertEquals(hash, m.get("hash"));
+            }
+          }
+          unarchived.put(mode, resolutionNotShared);
+          results.add("    {\"shape\": \"" + shape + "\"" +
+                      ", \"size\": " + size +
+                      ", \"encoding\": \"" + encoding + "\"" +
+                      ", \"mode\": \"" + mode + "\"" +
+                      ", \"runs\": " + runs +
+                      ", \"bootstraps\": " + bootstraps +
+                      ", \"classLoadToReadyNanos\": " + TestStartup.median(ready) +
+                      ", \"resolutionNanos\": " + TestStartup.median(resolve) +
+                      ", \"classesLoaded\": " + TestStartup.median(loaded) +
+                      ", \"classesLoadedFromOutsideArchives\": " + TestStartup.median(notShared) +
+                      ", \"classesLoadedDuringResolution\": " + TestStartup.median(resolutionLoaded) +
+                      ", \"classesLoadedDuringResolutionFromOutsideArchives\": " + TestStartup.median(resolutionNotShared) +
+                      "}");
+        }
+        // The whole point: with an archive, resolving the constant loads, parses, links and spins fewer classes from
+        // scratch. (Bootstrap methods still run; HotSpot does not archive the resolved values of dynamic constants in
+        // application classes.) Elapsed resolution time is reported but, being noisy, not asserted.
+        assertTrue(TestStartup.median(unarchived.get(archivedMode)) < TestStartup.median(unarchived.get("none")),
+                   shape + " " + encoding + " " + archivedMode);
+        archivedResolutionNotShared.put(encoding, TestStartup.median(unarchived.get(archivedMode)));
+      }
+      // Lean descriptions do not use java.lang.invoke.ConstantBootstraps#invoke, or the LambdaForms it spins, so they
+      // never leave more to be done from scratch.
+      assertTrue(archivedResolutionNotShared.get("lean") <= archivedResolutionNotShared.get("condy"), shape + " " + archivedMode);
+    }
+    Files.writeString(TestStartup.buildDirectory().resolve(resultsFile),
+                      "{\n" +
+                      "  \"java.version\": \"" + System.getProperty("java.version") + "\",\n" +
+                      "  \"java.vm.name\": \"" + System.getProperty("java.vm.name") + "\",\n" +
+                      "  \"results\": [\n" + String.join(",\n", results) + "\n  ]\n" +
+                      "}\n",
+                      StandardCharsets.UTF_8);
+  }
+
+  private static final Map<String, String> probe(final String classpath,
+                                                 final List<String> props,
+                                                 final List<String> jvmArgs,
+                                                 final Path classLoadLog)
+    throws IOException, InterruptedException {
+    final List<String> command = new ArrayList<>();
+    command.add(TestStartup.java());
+    command.addAll(jvmArgs);
+    if (classLoadLog != null) {
+      command.add("-Xlog:class+load=info:file=" + classLoadLog);
+    }
+    command.add("-cp");
+    command.add(classpath);
+    command.addAll(props);
+    command.add(StartupProbe.class.getName());
+    command.add("condy");
+    command.add(TestStartup.CONDY_HOLDER);
+    return TestStartup.parse(TestStartup.run(command));
+  }
+
+  // Returns the lines of a -Xlog:class+load log recording classes loaded while StartupProbe resolved a dynamic constant.
+  private static final List<String> resolution(final List<String> lines) {
+    int start = -1;
+    for (int i = 0; i < lines.size(); i++) {
+      final String line = lines.get(i);
+      if (line.contains(" " + StartupProbe.RESOLUTION_STARTED + " ")) {
+        start = i + 1;
+      } else if (line.contains(" " + StartupProbe.RESOLUTION_FINISHED + " ")) {
+        assertTrue(start > 0, "resolution markers out of order");
+        return lines.subList(start, i);
+      }
+    }
+    throw new AssertionError("resolution markers not found");
+  }
+
+  private static final boolean notShared(final String classLoadLine) {
+    return !classLoadLine.contains("shared objects file");
+  }
+
+  // CDS archives classes only from jar files, and refuses to dump if a non-empty directory is on the classpath. So
+  // every directory that is needed (the generated holder class, our classes, our test classes and, if it is not already
+  // in a jar, microbean-invoke) is packaged into one jar. Lean holders do not need microbean-invoke, so it is left off.
+  private static final String classpath(final Path scenario, final Path classes, final boolean lean) throws IOException {
+    final List<Path> directories = new ArrayList<>();
+    final List<String> jars = new ArrayList<>();
+    directories.add(classes);
+    final List<String> names = new ArrayList<>();
+    names.add(StartupProbe.class.getName().replace('.', '/') + ".class");
+    names.add(Constables.class.getName().replace('.', '/') + ".class");
+    if (!lean) {
+      names.add("org/microbean/invoke/BootstrapMethods.class");
+    }
+    for (final String name : names) {
+      final Path location = locate(name);
+      if (Files.isDirectory(location)) {
+        if (!directories.contains(location)) {
+          directories.add(location);
+        }
+      } else if (!jars.contains(location.toString())) {
+        jars.add(location.toString());
+      }
+    }
+    final Path jar = scenario.resolve("app.jar");
+    try (final OutputStream os = Files.newOutputStream(jar);
+         final JarOutputStream jos = new JarOutputStream(os)) {
+      for (final Path d : directories) {
+        final List<Path> files;
+        try (final Stream<Path> s = Files.walk(d)) {
+          files = s.filter(Files::isRegularFile).sorted().toList();
+        }
+        for (final Path f : files) {
+          final String name = d.relativize(f).toString().replace(File.separatorChar, '/');
+          if (!name.equals("module-info.class")) {
+            jos.putNextEntry(new JarEntry(name));
+            Files.copy(f, jos);
+            jos.closeEntry();
+          }
+        }
+      }
+    }
+    jars.add(0, jar.toString());
+    return String.join(File.pathSeparator, jars);
+  }
+
+  // Returns the classpath entry (directory or jar) containing the named resource.
+  private static final Path locate(final String name) throws IOException {
+    for (final String entry : TestStartup.classpathEntries()) {
+      final Path p = Path.of(entry);
+      if (Files.isDirectory(p)) {
+        if (Files.isRegularFile(p.resolve(name))) {
+          return p;
+        }
+      } else if (Files.isRegularFile(p) && entry.endsWith(".jar")) {
+        try (final JarFile jf = new JarFile(p.toFile())) {
+          if (jf.getEntry(name) != null) {
+            return p;
+          }
+        }
+      }
+    }
+    throw new IllegalStateException(name + " not found");
+  }
+
+}
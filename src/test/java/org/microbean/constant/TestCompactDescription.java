@@ -0,0 +1,212 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.annotation.RetentionPolicy;
+
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DynamicConstantDesc;
+import java.lang.constant.MethodTypeDesc;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static java.lang.constant.ConstantDescs.CD_int;
+import static java.lang.constant.ConstantDescs.CD_String;
+import static java.lang.constant.ConstantDescs.NULL;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestCompactDescription {
+
+  private TestCompactDescription() {
+    super();
+  }
+
+  @Test
+  final void testRoundTrip() throws ReflectiveOperationException {
+    final Map<String, Object> map = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      map.put("k" + i, List.of(i, Optional.of("v" + i), UUID.nameUUIDFromBytes(new byte[] { (byte)i })));
+    }
+    final List<Object> values =
+      List.of(List.of(),
+              Arrays.asList("a", null, 1, 2L, 3.0f, -0.0f, 0.0f, Double.NaN, RetentionPolicy.RUNTIME),
+              new HashSet<>(Arrays.asList("a", null)),
+              map,
+              new SimpleImmutableEntry<>("k", null),
+              new TreeSet<>(Set.of("x", "y")),
+              new TreeMap<>(Map.of("a", 1, "b", 2)),
+              List.of(String.class, int.class, String[].class));
+    final Lookup lookup = MethodHandles.lookup();
+    for (final Object value : values) {
+      final ConstantDesc description = Constables.describeConstable(value).orElseThrow();
+      for (final ConstantDesc cd : List.of(description, Constables.lean(description))) {
+        final ConstantDesc expanded = CompactDescription.of(cd).expand();
+        assertEquals(cd, expanded);
+        assertEquals(value, expanded.resolveConstantDesc(lookup));
+      }
+    }
+    // Constants are represented as themselves.
+    for (final ConstantDesc cd : List.of("a", 1, NULL, CD_int, MethodTypeDesc.of(CD_String), RetentionPolicy.RUNTIME.describeConstable().orElseThrow())) {
+      final CompactDescription c = CompactDescription.of(cd);
+      assertEquals(0, c.nodeCount());
+      assertSame(cd, c.expand());
+    }
+  }
+
+  @Test
+  final void testSharing() {
+    final Map<String, String> map = new HashMap<>();
+    for (int i = 0; i < 1_000; i++) {
+      map.put("k" + i, "v");
+    }
+    final CompactDescription c = CompactDescription.of(Constables.describeConstable(map).orElseThrow());
+    // One node for Map.ofEntries(...), and one for each Map.entry(...).
+    assertEquals(1_001, c.nodeCount());
+    // "v", each key, and the two method handles.
+    assertEquals(1_003, c.constantCount());
+
+    // Structurally equal subtrees are held, and expanded, once.
+    final CompactDescription lists = CompactDescription.of(Constables.describeConstable(List.of(List.of(1), List.of(1))).orElseThrow());
+    assertEquals(2, lists.nodeCount());
+    final DynamicConstantDesc<?> expanded = (DynamicConstantDesc<?>)lists.expand();
+    assertSame(expanded.bootstrapArgs()[1], expanded.bootstrapArgs()[2]);
+  }
+
+  @Test
+  final void testStreamingToAClassWriter() throws Throwable {
+    final Map<Integer, Object> map = new TreeMap<>(Comparator.reverseOrder());
+    for (int i = 0; i < 100; i++) {
+      map.put(i, List.of("v" + i, Optional.empty()));
+    }
+    final DynamicConstantDesc<?> description = (DynamicConstantDesc<?>)Constables.describeConstable(map).orElseThrow();
+    for (final DynamicConstantDesc<?> cd : List.of(description, (DynamicConstantDesc<?>)Constables.lean(description))) {
+      final CondyClassWriter expandedWriter = new CondyClassWriter();
+      final byte[] expandedBytes = expandedWriter.write(TestStartup.CONDY_HOLDER, cd);
+      final CondyClassWriter compactWriter = new CondyClassWriter();
+      final byte[] compactBytes = compactWriter.write(TestStartup.CONDY_HOLDER, CompactDescription.of(cd));
+      assertEquals(expandedWriter.dynamicConstantCount(), compactWriter.dynamicConstantCount());
+      assertEquals(map, value(expandedBytes));
+      assertEquals(map, value(compactBytes));
+    }
+  }
+
+  // Retained sizes are compared deterministically rather than by measuring the heap, which is too imprecise (and, with
+  // explicit garbage collection disabled, impossible) to be relied upon.  Sizes are estimated for a 64-bit HotSpot VM
+  // with compressed oops and class pointers: 12-byte object headers, 16-byte array headers, 4-byte references, and
+  // 8-byte alignment.  Constants (Strings, MethodHandleDescs and the like) are retained by both forms and are excluded.
+  @Test
+  final void testRetainedMemory() {
+    final Map<String, String> map = new HashMap<>();
+    for (int i = 0; i < 100_000; i++) {
+      map.put("k" + i, "v" + i);
+    }
+    final UUID[] uuids = new UUID[100_000];
+    for (int i = 0; i < uuids.length; i++) {
+      uuids[i] = new UUID(i, -i);
+    }
+    // (Lean descriptions of maps hold their keys and values in one node, and so have little to gain.)
+    for (final ConstantDesc cd : List.of(Constables.describeConstable(map).orElseThrow(),
+                                         Constables.describeConstable(List.of(uuids)).orElseThrow())) {
+      final CompactDescription compact = CompactDescription.of(cd);
+      assertEquals(100_001, compact.nodeCount());
+      final long expanded = retainedSize(cd, Collections.newSetFromMap(new IdentityHashMap<>()));
+      final long retained = retainedSize(compact);
+      // Several-fold less; about 3.4 times less for these Map.entry(...) and new UUID(...) nodes.
+      assertTrue(retained * 3 < expanded, () -> cd.getClass() + ": expanded: " + expanded + "; compact: " + retained);
+    }
+  }
+
+  private static final Object value(final byte[] classBytes) throws Throwable {
+    final Lookup lookup = MethodHandles.lookup().defineHiddenClass(classBytes, true);
+    return lookup.findStatic(lookup.lookupClass(), "value", MethodType.methodType(Object.class)).invoke();
+  }
+
+  // The DynamicConstantDescs with bootstrap arguments in the tree rooted at cd, each of which has four reference fields
+  // (its bootstrap method, bootstrap arguments, name and type) and its own array of bootstrap arguments.
+  private static final long retainedSize(final ConstantDesc cd, final Set<ConstantDesc> seen) {
+    long size = 0L;
+    if (cd instanceof DynamicConstantDesc<?> dcd && dcd.bootstrapArgs().length > 0 && seen.add(cd)) {
+      size += align(12L + 4 * 4) + align(16L + 4L * dcd.bootstrapArgs().length);
+      for (final ConstantDesc arg : dcd.bootstrapArgs()) {
+        size += retainedSize(arg, seen);
+      }
+    }
+    return size;
+  }
+
+  // The CompactDescription and the arrays reachable from its fields.
+  private static final long retainedSize(final CompactDescription cd) {
+    long size = 12L;
+    for (final Field f : CompactDescription.class.getDeclaredFields()) {
+      if (!Modifier.isStatic(f.getModifiers())) {
+        // Every instance field is an int or a reference, each of which is 4 bytes.
+        size += 4;
+        if (f.getType().isArray()) {
+          f.setAccessible(true);
+          try {
+            size += arraySize(f.get(cd));
+          } catch (final IllegalAccessException e) {
+            throw new AssertionError(e.getMessage(), e);
+          }
+        }
+      }
+    }
+    return align(size);
+  }
+
+  private static final long arraySize(final Object array) {
+    final Class<?> componentType = array.getClass().getComponentType();
+    final int length = Array.getLength(array);
+    // CompactDescription uses only arrays of ints, longs and references.
+    final int elementSize = componentType == long.class ? 8 : 4;
+    long size = align(16L + (long)elementSize * length);
+    if (componentType.isArray()) {
+      for (int i = 0; i < length; i++) {
+        size += arraySize(Array.get(array, i));
+      }
+    }
+    return size;
+  }
+
+  private static final long align(final long size) {
+    return (size + 7L) & ~7L;
+  }
+
+}
@@ -14,18 +14,41 @@
 package org.microbean.constant;
 
 import java.lang.constant.Constable;
+import java.lang.constant.ConstantDesc;
 import java.lang.constant.DynamicConstantDesc;
 import java.lang.constant.MethodHandleDesc;
 import java.lang.constant.MethodTypeDesc;
 
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +60,7 @@ import static org.microbean.constant.ConstantDescs.CD_Comparator;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class TestConstableSemantics {
 
@@ -88,4 +112,122 @@ final class TestConstableSemantics {
     assertEquals(set, result);
   }
 
+  @Test
+  final void testReverseOrderSetWithoutComparatorFunction() throws ReflectiveOperationException {
+    final SortedSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+    set.addAll(List.of("a", "b", "c", "d"));
+    @SuppressWarnings("unchecked")
+    final SortedSet<String> result =
+      (SortedSet<String>)Constables.describeConstable(set).orElseThrow().resolveConstantDesc(MethodHandles.lookup());
+    assertEquals(set.comparator(), result.comparator());
+    assertEquals(List.copyOf(set), List.copyOf(result));
+  }
+
+  @Test
+  final void testCaseInsensitiveOrderMap() throws ReflectiveOperationException {
+    final SortedMap<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    map.put("b", "B");
+    map.put("A", "a");
+    @SuppressWarnings("unchecked")
+    final SortedMap<String, String> result =
+      (SortedMap<String, String>)Constables.describeConstable(map).orElseThrow().resolveConstantDesc(MethodHandles.lookup());
+    assertEquals(String.CASE_INSENSITIVE_ORDER, result.comparator());
+    assertEquals(map, result);
+    assertEquals("a", result.get("a"));
+  }
+
+  @Test
+  final void testComposedComparators() throws ReflectiveOperationException {
+    final Comparator<String> reversedCaseInsensitive = String.CASE_INSENSITIVE_ORDER.reversed();
+    for (final Comparator<?> c : List.of(Comparator.naturalOrder(),
+                                         Comparator.reverseOrder(),
+                                         Comparator.<String>naturalOrder().reversed(),
+                                         Comparator.<String>reverseOrder().reversed(),
+                                         reversedCaseInsensitive,
+                                         reversedCaseInsensitive.reversed())) {
+      assertEquals(c, Constables.describeConstable(c).orElseThrow().resolveConstantDesc(MethodHandles.lookup()));
+    }
+  }
+
+  @Test
+  final void testComparatorElementsKeysAndValues() throws ReflectiveOperationException {
+    final Lookup lookup = MethodHandles.lookup();
+    final List<Comparator<?>> list = List.of(Comparator.naturalOrder(), Comparator.reverseOrder(), String.CASE_INSENSITIVE_ORDER.reversed());
+    assertEquals(list, Constables.describeConstable(list).orElseThrow().resolveConstantDesc(lookup));
+    final Map<Object, Object> map = Map.of("k", Comparator.naturalOrder(), Comparator.reverseOrder(), "v");
+    assertEquals(map, Constables.describeConstable(map).orElseThrow().resolveConstantDesc(lookup));
+    assertEquals(Optional.of(Comparator.naturalOrder()),
+                 Constables.describeConstable(Optional.of(Comparator.naturalOrder())).orElseThrow().resolveConstantDesc(lookup));
+  }
+
+  @Test
+  final void testConstableComparators() throws ReflectiveOperationException {
+    // Comparators that are also Constable describe themselves, and calls like this one must not be ambiguous.
+    assertEquals(ByLength.INSTANCE.describeConstable(), Constables.describeConstable(ByLength.INSTANCE));
+    final SortedSet<String> set = new TreeSet<>(ByLength.INSTANCE);
+    set.addAll(List.of("ccc", "a", "bb"));
+    @SuppressWarnings("unchecked")
+    final SortedSet<String> result =
+      (SortedSet<String>)Constables.describeConstable(set).orElseThrow().resolveConstantDesc(MethodHandles.lookup());
+    assertEquals(ByLength.INSTANCE, result.comparator());
+    assertEquals(List.copyOf(set), List.copyOf(result));
+  }
+
+  @Test
+  final void testValueTypes() throws ReflectiveOperationException {
+    final List<Object> values =
+      List.of(UUID.randomUUID(),
+              BigInteger.ZERO,
+              BigInteger.valueOf(Long.MIN_VALUE),
+              BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+              BigInteger.TWO.pow(200).negate(),
+              new BigDecimal("-123.4560"),
+              new BigDecimal(BigInteger.TWO.pow(100), 7),
+              Duration.ofSeconds(-5, 999_999_999),
+              Instant.parse("2022-01-02T03:04:05.000000006Z"),
+              LocalDate.of(1969, 7, 20),
+              LocalTime.of(23, 59, 59, 1),
+              LocalDateTime.of(2000, 2, 29, 12, 30, 15, 42),
+              OffsetTime.of(1, 2, 3, 4, ZoneOffset.ofHours(-8)),
+              OffsetDateTime.of(2023, 3, 4, 5, 6, 7, 8, ZoneOffset.ofHoursMinutes(5, 30)),
+              ZoneOffset.UTC,
+              ZoneId.of("Europe/Paris"),
+              ZonedDateTime.of(2024, 6, 7, 8, 9, 10, 11, ZoneOffset.ofHours(2)),
+              ZonedDateTime.of(2024, 6, 7, 8, 9, 10, 11, ZoneId.of("Asia/Kolkata")),
+              // The later of two offsets in a daylight saving time overlap.
+              ZonedDateTime.of(LocalDateTime.of(2023, 11, 5, 1, 30), ZoneId.of("America/New_York")).withLaterOffsetAtOverlap(),
+              Period.of(1, -2, 3),
+              Year.of(-44),
+              YearMonth.of(1969, 7),
+              MonthDay.of(2, 29));
+    for (final Object value : values) {
+      final Object result = Constables.describeConstable(value).orElseThrow().resolveConstantDesc(MethodHandles.lookup());
+      assertEquals(value, result);
+      if (value instanceof BigDecimal bd) {
+        // BigDecimal#equals(Object) already takes scale into account, but be explicit.
+        assertEquals(bd.scale(), ((BigDecimal)result).scale());
+      }
+    }
+    // BigIntegers too big for a long are assembled from their signum and magnitude, not parsed from Strings.
+    final DynamicConstantDesc<?> big = (DynamicConstantDesc<?>)Constables.describeConstable(BigInteger.TWO.pow(200).negate()).orElseThrow();
+    assertEquals(5, big.bootstrapArgs().length); // the signum and four longs
+    for (final ConstantDesc arg : big.bootstrapArgs()) {
+      assertTrue(arg instanceof Integer || arg instanceof Long, arg::toString);
+    }
+    // They can also take part in describing whole collections.
+    final Map<UUID, Duration> map = Map.of(UUID.randomUUID(), Duration.ofMillis(1500), UUID.randomUUID(), Duration.ZERO);
+    assertEquals(map, Constables.describeConstable(map).orElseThrow().resolveConstantDesc(MethodHandles.lookup()));
+  }
+
+  private static enum ByLength implements Comparator<String> {
+
+    INSTANCE;
+
+    @Override
+    public final int compare(final String a, final String b) {
+      return Integer.compare(a.length(), b.length());
+    }
+
+  }
+
 }
@@ -0,0 +1,202 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DirectMethodHandleDesc;
+import java.lang.constant.DynamicConstantDesc;
+import java.lang.constant.MethodHandleDesc;
+import java.lang.constant.MethodTypeDesc;
+
+import java.lang.invoke.MethodHandles;
+
+import java.math.BigInteger;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import static java.lang.constant.ConstantDescs.BSM_INVOKE;
+import static java.lang.constant.ConstantDescs.CD_List;
+import static java.lang.constant.ConstantDescs.CD_Object;
+import static java.lang.constant.ConstantDescs.CD_Set;
+import static java.lang.constant.ConstantDescs.CD_String;
+import static java.lang.constant.DirectMethodHandleDesc.Kind.INTERFACE_STATIC;
+import static java.lang.constant.DirectMethodHandleDesc.Kind.VIRTUAL;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TestConstantBootstraps {
+
+  private TestConstantBootstraps() {
+    super();
+  }
+
+  @Test
+  final void testLean() throws ReflectiveOperationException {
+    final SortedSet<String> sortedSet = new TreeSet<>(Comparator.reverseOrder());
+    sortedSet.addAll(List.of("a", "b", "c"));
+    final SortedMap<String, Integer> sortedMap = new TreeMap<>(Map.of("a", 1, "b", 2));
+    final Map<String, Object> map = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      map.put("k" + i, List.of(i, Optional.of("v" + i)));
+    }
+    final List<Object> values =
+      List.of(List.of(),
+              List.of("a", "b"),
+              Arrays.asList("a", null),
+              Set.of(),
+              Set.of(1, 2, 3),
+              new HashSet<>(Arrays.asList("a", null)),
+              Map.of(),
+              map,
+              Map.entry("k", "v"),
+              new SimpleImmutableEntry<>("k", null),
+              Optional.empty(),
+              Optional.of(List.of("a")),
+              sortedSet,
+              new TreeSet<>(),
+              new TreeSet<>(Set.of("x", "y")),
+              sortedMap,
+              new TreeMap<>(Comparator.reverseOrder()),
+              new TreeMap<>());
+    for (final Object value : values) {
+      final ConstantDesc description = Constables.describeConstable(value).orElseThrow();
+      final ConstantDesc lean = Constables.lean(description);
+      assertFalse(usesInvoke(lean), lean::toString);
+      assertEquals(description.resolveConstantDesc(MethodHandles.lookup()), lean.resolveConstantDesc(MethodHandles.lookup()));
+      assertEquals(value, lean.resolveConstantDesc(MethodHandles.lookup()));
+      // Leaning is idempotent.
+      assertSame(lean, Constables.lean(lean));
+    }
+  }
+
+  @Test
+  final void testLeanMapHasNoEntryNodes() {
+    final Map<String, Integer> map = Map.of("a", 1, "b", 2, "c", 3);
+    final DynamicConstantDesc<?> lean = (DynamicConstantDesc<?>)Constables.lean(Constables.describeConstable(map).orElseThrow());
+    assertEquals(6, lean.bootstrapArgs().length);
+    for (final ConstantDesc arg : lean.bootstrapArgs()) {
+      assertFalse(arg instanceof DynamicConstantDesc);
+    }
+  }
+
+  @Test
+  final void testUnrecognizedNodesAreShared() {
+    final ConstantDesc comparator = Constables.describeConstable(Comparator.reverseOrder()).orElseThrow();
+    assertSame(comparator, Constables.lean(comparator));
+    final SortedSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+    set.add("a");
+    final DynamicConstantDesc<?> description = (DynamicConstantDesc<?>)Constables.describeConstable(set).orElseThrow();
+    final DynamicConstantDesc<?> lean = (DynamicConstantDesc<?>)Constables.lean(description);
+    // sortedSet(comparator, "a")
+    assertEquals(comparator, lean.bootstrapArgs()[0]);
+    assertSame(description.bootstrapArgs()[2], lean.bootstrapArgs()[0]);
+  }
+
+  @Test
+  final void testOnlyKnownFormsOfOfAreLeaned() throws ReflectiveOperationException {
+    // "a,b".split(",")
+    final ConstantDesc array =
+      DynamicConstantDesc.of(BSM_INVOKE,
+                             MethodHandleDesc.ofMethod(VIRTUAL, CD_String, "split", MethodTypeDesc.of(CD_String.arrayType(), CD_String)),
+                             "a,b",
+                             ",");
+    for (final ClassDesc type : List.of(CD_List, CD_Set)) {
+      // List.of(E...) or Set.of(E...) with one argument, which might be one element or an array of elements, is not leaned
+      final ConstantDesc of =
+        DynamicConstantDesc.of(BSM_INVOKE,
+                               MethodHandleDesc.ofMethod(INTERFACE_STATIC, type, "of", MethodTypeDesc.of(type, CD_Object.arrayType())),
+                               array);
+      assertSame(of, Constables.lean(of));
+    }
+    // Nor are forms Constables does not use, such as List.of(String), which does not exist.
+    final ConstantDesc ofString =
+      DynamicConstantDesc.of(BSM_INVOKE,
+                             MethodHandleDesc.ofMethod(INTERFACE_STATIC, CD_List, "of", MethodTypeDesc.of(CD_List, CD_String)),
+                             "a");
+    assertSame(ofString, Constables.lean(ofString));
+    // The forms Constables does use are, whatever the number of elements.
+    for (final int size : new int[] { 0, 1, 10, 11 }) {
+      final List<Integer> list = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        list.add(i);
+      }
+      final List<Integer> value = List.copyOf(list);
+      final DynamicConstantDesc<?> lean = (DynamicConstantDesc<?>)Constables.lean(Constables.describeConstable(value).orElseThrow());
+      assertEquals("list", lean.bootstrapMethod().methodName());
+      assertEquals(value, lean.resolveConstantDesc(MethodHandles.lookup()));
+    }
+  }
+
+  @Test
+  final void testBootstraps() {
+    assertEquals(List.of("a"), ConstantBootstraps.list(null, null, null, "a"));
+    assertEquals(Arrays.asList("a", null), ConstantBootstraps.list(null, null, null, "a", null));
+    assertThrows(UnsupportedOperationException.class, () -> ConstantBootstraps.list(null, null, null, "a", null).clear());
+    assertThrows(IllegalArgumentException.class, () -> ConstantBootstraps.set(null, null, null, "a", "a"));
+    assertThrows(IllegalArgumentException.class, () -> ConstantBootstraps.set(null, null, null, null, null));
+    assertThrows(IllegalArgumentException.class, () -> ConstantBootstraps.map(null, null, null, "a"));
+    assertEquals(Map.of("a", 1), ConstantBootstraps.map(null, null, null, "a", 1));
+    assertEquals(Optional.empty(), ConstantBootstraps.optional(null, null, null));
+    assertEquals(Optional.empty(), ConstantBootstraps.optional(null, null, null, (Object)null));
+    assertThrows(IllegalArgumentException.class, () -> ConstantBootstraps.optional(null, null, null, 1, 2));
+    final SortedMap<?, ?> sm = ConstantBootstraps.sortedMap(null, null, null, Comparator.reverseOrder(), "a", 1, "b", 2);
+    assertEquals("b", sm.firstKey());
+    assertThrows(UnsupportedOperationException.class, () -> sm.clear());
+    assertEquals(BigInteger.ZERO, ConstantBootstraps.bigInteger(null, null, null, 0));
+    assertEquals(BigInteger.TWO.pow(64).negate(), ConstantBootstraps.bigInteger(null, null, null, -1, 1L, 0L));
+    assertEquals(BigInteger.TWO.pow(128).subtract(BigInteger.ONE), ConstantBootstraps.bigInteger(null, null, null, 1, -1L, -1L));
+    assertThrows(NumberFormatException.class, () -> ConstantBootstraps.bigInteger(null, null, null, 0, 1L));
+  }
+
+  // Returns true if cd uses ConstantBootstraps.invoke to build a collection, Entry or Optional, or uses
+  // org.microbean.invoke.BootstrapMethods.
+  private static final boolean usesInvoke(final ConstantDesc cd) {
+    if (cd instanceof DynamicConstantDesc<?> dcd) {
+      final ConstantDesc[] args = dcd.bootstrapArgs();
+      if (BSM_INVOKE.equals(dcd.bootstrapMethod()) &&
+          args[0] instanceof DirectMethodHandleDesc mh &&
+          !mh.owner().equals(ConstantDescs.CD_Comparator)) {
+        return true;
+      }
+      for (final ConstantDesc arg : args) {
+        if (usesInvoke(arg)) {
+          return true;
+        }
+      }
+    } else if (cd instanceof DirectMethodHandleDesc mh) {
+      return mh.owner().packageName().equals("org.microbean.invoke");
+    }
+    return false;
+  }
+
+}
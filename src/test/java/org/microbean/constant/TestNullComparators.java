@@ -0,0 +1,83 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.constant.ConstantDesc;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static java.lang.constant.ConstantDescs.NULL;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Comparators returned by Comparator.nullsFirst(Comparator) and Comparator.nullsLast(Comparator) can be described only
+// when java.util is open to this module.  By default it is not.  The build's opened-java-util surefire execution runs
+// this class again, with java.util opened and the org.microbean.constant.openedJavaUtil system property set to true.
+final class TestNullComparators {
+
+  private TestNullComparators() {
+    super();
+  }
+
+  @Test
+  @DisabledIfSystemProperty(named = "org.microbean.constant.openedJavaUtil", matches = "true")
+  final void testNullComparatorsByDefault() throws ReflectiveOperationException {
+    assertFalse(Comparator.class.getModule().isOpen("java.util", Constables.class.getModule()),
+                "java.util is open to " + Constables.class.getModule());
+    assertTrue(Constables.describeConstable(Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)).isEmpty());
+    final SortedSet<String> set = new TreeSet<>(Comparator.nullsFirst(Comparator.<String>reverseOrder()));
+    set.addAll(Arrays.asList("a", "b"));
+    assertTrue(Constables.describeConstable(set).isEmpty());
+    // A Comparator-describing Function is still consulted.
+    final ConstantDesc description =
+      Constables.describeConstable(set, c -> Optional.of(NULL), (String s) -> s.describeConstable()).orElseThrow();
+    assertTrue(((SortedSet<?>)description.resolveConstantDesc(MethodHandles.lookup())).comparator() == null);
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "org.microbean.constant.openedJavaUtil", matches = "true")
+  final void testNullComparatorsWithJavaUtilOpened() throws ReflectiveOperationException {
+    assertTrue(Comparator.class.getModule().isOpen("java.util", Constables.class.getModule()),
+               "java.util is not open to " + Constables.class.getModule());
+    final Lookup lookup = MethodHandles.lookup();
+    final Comparator<String> nullsLast = Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER);
+    @SuppressWarnings("unchecked")
+    final Comparator<String> c = (Comparator<String>)Constables.describeConstable(nullsLast).orElseThrow().resolveConstantDesc(lookup);
+    assertTrue(c.compare(null, "a") > 0);
+    assertEquals(0, c.compare("a", "A"));
+    final SortedSet<String> set = new TreeSet<>(Comparator.nullsFirst(Comparator.<String>reverseOrder()));
+    set.addAll(Arrays.asList("a", null, "b"));
+    @SuppressWarnings("unchecked")
+    final SortedSet<String> result = (SortedSet<String>)Constables.describeConstable(set).orElseThrow().resolveConstantDesc(lookup);
+    assertEquals(Arrays.asList(null, "b", "a"), new ArrayList<>(result));
+    // A wrapped Comparator that cannot be described makes the whole Comparator indescribable.
+    assertTrue(Constables.describeConstable(Comparator.nullsFirst((String a, String b) -> 0)).isEmpty());
+  }
+
+}
@@ -0,0 +1,120 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.annotation.RetentionPolicy;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDesc;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TestParallelResolver {
+
+  private TestParallelResolver() {
+    super();
+  }
+
+  @Test
+  final void testIdenticalToSequentialResolution() throws ReflectiveOperationException {
+    final Lookup lookup = MethodHandles.lookup();
+    final Map<String, Object> map = new HashMap<>();
+    for (int i = 0; i < 1_000; i++) {
+      final List<Object> list = new ArrayList<>();
+      for (int j = 0; j < 4; j++) {
+        list.add(j % 2 == 0 ? Optional.of("v" + i + "-" + j) : RetentionPolicy.values()[j % 3]);
+      }
+      map.put("k" + i, list);
+    }
+    final TreeMap<Integer, Object> sortedMap = new TreeMap<>(Comparator.reverseOrder());
+    for (int i = 0; i < 300; i++) {
+      sortedMap.put(i, Map.of("k", i));
+    }
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (final Object value : List.of(map, sortedMap, List.of(map, sortedMap))) {
+        final ConstantDesc description = Constables.describeConstable(value).orElseThrow();
+        for (final ConstantDesc cd : List.of(description, Constables.lean(description))) {
+          final Object sequential = cd.resolveConstantDesc(lookup);
+          assertEquals(value, sequential);
+          for (final ParallelResolver resolver : List.of(new ParallelResolver(),
+                                                         new ParallelResolver(pool, 1),
+                                                         new ParallelResolver(pool, 7))) {
+            final Object parallel = resolver.resolve(cd, lookup);
+            assertEquals(sequential, parallel);
+            assertSame(sequential.getClass(), parallel.getClass());
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  final void testDeterministicErrors() throws ReflectiveOperationException {
+    final Lookup lookup = MethodHandles.lookup();
+    final List<Object> elements = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      // Every hundredth element names a class that does not exist.
+      elements.add(i % 100 == 50 ? List.of(ClassDesc.of("com.example.Missing" + i)) : List.of(i));
+    }
+    final ConstantDesc description = Constables.describeConstable(elements).orElseThrow();
+    final BootstrapMethodError expected = assertThrows(BootstrapMethodError.class, () -> description.resolveConstantDesc(lookup));
+    final ParallelResolver resolver = new ParallelResolver(ForkJoinPool.commonPool(), 1);
+    for (int i = 0; i < 10; i++) {
+      final BootstrapMethodError e = assertThrows(BootstrapMethodError.class, () -> resolver.resolve(description, lookup));
+      assertEquals(String.valueOf(rootCause(expected)), String.valueOf(rootCause(e)));
+      assertEquals(ClassNotFoundException.class, rootCause(e).getClass());
+    }
+    // Non-dynamic constants fail as they always do.
+    assertThrows(ClassNotFoundException.class, () -> resolver.resolve(ClassDesc.of("com.example.Missing"), lookup));
+  }
+
+  @Test
+  final void testOverridingSubclasses() throws ReflectiveOperationException {
+    final ConstantDesc cd = RetentionPolicy.RUNTIME.describeConstable().orElseThrow();
+    assertSame(RetentionPolicy.RUNTIME, new ParallelResolver().resolve(cd, MethodHandles.lookup()));
+  }
+
+  @Test
+  final void testThreshold() {
+    assertThrows(IllegalArgumentException.class, () -> new ParallelResolver(ForkJoinPool.commonPool(), 0));
+  }
+
+  private static final Throwable rootCause(Throwable t) {
+    while (t.getCause() != null) {
+      t = t.getCause();
+    }
+    return t;
+  }
+
+}
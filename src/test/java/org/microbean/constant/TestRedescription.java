@@ -0,0 +1,238 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DynamicConstantDesc;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class TestRedescription {
+
+  private TestRedescription() {
+    super();
+  }
+
+  @Test
+  final void testOneChangedEntryInALargeMap() {
+    final Map<String, List<Integer>> previous = new HashMap<>();
+    for (int i = 0; i < 100_000; i++) {
+      previous.put("k" + i, List.of(i));
+    }
+    final DynamicConstantDesc<?> previousDescription = (DynamicConstantDesc<?>)Constables.describeConstable(previous).orElseThrow();
+    final Map<String, List<Integer>> map = new HashMap<>(previous);
+    map.put("k42", List.of(-42));
+
+    final AtomicInteger calls = new AtomicInteger();
+    final DynamicConstantDesc<?> description =
+      (DynamicConstantDesc<?>)Constables.redescribeConstable(previous, previousDescription, map, null, null, counting(calls)).orElseThrow();
+    // Only the changed value was described again, apart from the spot-checked first, middle and last values.
+    assertEquals(1 + 3, calls.get());
+    assertEquals(Constables.describeConstable(map).orElseThrow(), description);
+
+    // Every other entry description is shared.
+    final ConstantDesc[] previousArgs = previousDescription.bootstrapArgs();
+    final ConstantDesc[] args = description.bootstrapArgs();
+    assertEquals(previousArgs.length, args.length);
+    int shared = 0;
+    for (int i = 1; i < args.length; i++) {
+      if (args[i] == previousArgs[i]) {
+        ++shared;
+      }
+    }
+    assertEquals(previous.size() - 1, shared);
+  }
+
+  @Test
+  final void testLeanMap() throws ReflectiveOperationException {
+    final Map<String, List<Integer>> previous = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      previous.put("k" + i, List.of(i));
+    }
+    final ConstantDesc previousDescription = Constables.lean(Constables.describeConstable(previous).orElseThrow());
+    final Map<String, List<Integer>> map = new HashMap<>(previous);
+    map.remove("k1");
+    map.put("k2", List.of(-2));
+    map.put("new", List.of(100));
+
+    final AtomicInteger calls = new AtomicInteger();
+    final ConstantDesc description =
+      Constables.redescribeConstable(previous, previousDescription, map, null, null, counting(calls)).orElseThrow();
+    assertEquals(2 + 3, calls.get());
+    assertEquals(Constables.lean(Constables.describeConstable(map).orElseThrow()), description);
+    assertEquals(map, description.resolveConstantDesc(MethodHandles.lookup()));
+  }
+
+  @Test
+  final void testSortedMap() throws ReflectiveOperationException {
+    final TreeMap<String, List<Integer>> previous = new TreeMap<>(Comparator.reverseOrder());
+    for (int i = 0; i < 10; i++) {
+      previous.put("k" + i, List.of(i));
+    }
+    for (final boolean lean : new boolean[] { false, true }) {
+      final ConstantDesc d = Constables.describeConstable(previous).orElseThrow();
+      final ConstantDesc previousDescription = lean ? Constables.lean(d) : d;
+      final TreeMap<String, List<Integer>> map = new TreeMap<>(previous);
+      map.put("k5", List.of(5, 5));
+      final AtomicInteger calls = new AtomicInteger();
+      final ConstantDesc description =
+        Constables.redescribeConstable(previous, previousDescription, map, null, null, counting(calls)).orElseThrow();
+      assertEquals(1 + 3, calls.get());
+      final ConstantDesc expected = Constables.describeConstable(map).orElseThrow();
+      assertEquals(lean ? Constables.lean(expected) : expected, description);
+      assertEquals(map, description.resolveConstantDesc(MethodHandles.lookup()));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  final void testCollections() throws ReflectiveOperationException {
+    final List<List<Integer>> elements = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      elements.add(List.of(i));
+    }
+    final TreeSet<String> sortedSet = new TreeSet<>(Comparator.reverseOrder());
+    sortedSet.addAll(List.of("a", "b", "c"));
+    final List<Collection<?>> values =
+      List.of(List.copyOf(elements),
+              Arrays.asList(List.of(1), null, List.of(2)),
+              Arrays.asList(List.of(1), List.of(2)),
+              new HashSet<>(elements),
+              new HashSet<>(Arrays.asList(List.of(1), null)),
+              sortedSet,
+              List.of());
+    for (final Collection<?> previous : values) {
+      for (final boolean lean : new boolean[] { false, true }) {
+        final ConstantDesc d = Constables.describeConstable(previous).orElseThrow();
+        final ConstantDesc previousDescription = lean ? Constables.lean(d) : d;
+        final Collection<Object> changed = previous instanceof TreeSet<?> ts ? (TreeSet<Object>)ts.clone() : new ArrayList<>(previous);
+        changed.add(previous instanceof TreeSet ? "d" : List.of(-1));
+        final Collection<?> next = previous instanceof HashSet ? new HashSet<>(changed) : changed;
+        final AtomicInteger calls = new AtomicInteger();
+        final ConstantDesc description =
+          Constables.redescribeConstable(previous, previousDescription, next, null, counting(calls)).orElseThrow();
+        // Strings are Constable, so they never reach the element Function. Otherwise the added element and the
+        // spot-checked first, middle and last previous elements do.
+        assertEquals(previous instanceof TreeSet ? 0 : 1 + Math.min(3, previous.size()), calls.get());
+        final ConstantDesc expected = Constables.describeConstable(next).orElseThrow();
+        assertEquals(lean ? Constables.lean(expected) : expected, description);
+        assertEquals(next, description.resolveConstantDesc(MethodHandles.lookup()));
+      }
+    }
+  }
+
+  @Test
+  final void testUnchangedSubtreesAreShared() {
+    final List<List<Integer>> previous = List.of(List.of(1), List.of(2));
+    final DynamicConstantDesc<?> previousDescription = (DynamicConstantDesc<?>)Constables.describeConstable(previous).orElseThrow();
+    final DynamicConstantDesc<?> description =
+      (DynamicConstantDesc<?>)Constables.redescribeConstable(previous, previousDescription, List.of(List.of(2), List.of(3))).orElseThrow();
+    // List.of(List.of(2), List.of(3)); List.of(2) is equal, not identical, to the previous one, but its description is
+    // reused anyway.
+    assertSame(previousDescription.bootstrapArgs()[2], description.bootstrapArgs()[1]);
+    assertNotSame(previousDescription.bootstrapArgs()[1], description.bootstrapArgs()[2]);
+  }
+
+  @Test
+  final void testUnrecognizedPreviousDescription() {
+    final List<List<Integer>> list = List.of(List.of(1));
+    final AtomicInteger calls = new AtomicInteger();
+    // A description that this class did not produce, or that does not describe the previous input, is ignored.
+    assertEquals(Constables.describeConstable(list), Constables.redescribeConstable(list, "bogus", list, null, counting(calls)));
+    assertEquals(1, calls.get());
+    assertEquals(Constables.describeConstable(list), Constables.redescribeConstable(List.of(), Constables.describeConstable(list).orElseThrow(), list));
+    assertEquals(Constables.describeConstable(list), Constables.redescribeConstable(null, null, list));
+  }
+
+  @Test
+  final void testMismatchedPreviousDescription() throws ReflectiveOperationException {
+    // Descriptions of other collections of the same size are caught by spot-checking and ignored.
+    final List<List<Integer>> list = List.of(List.of(1), List.of(2));
+    final ConstantDesc bogus = Constables.describeConstable(List.of(List.of(7), List.of(8))).orElseThrow();
+    final ConstantDesc description = Constables.redescribeConstable(list, bogus, List.of(List.of(1))).orElseThrow();
+    assertEquals(List.of(List.of(1)), description.resolveConstantDesc(MethodHandles.lookup()));
+    final Map<String, Integer> map = Map.of("a", 1, "b", 2, "c", 3);
+    final ConstantDesc bogusMap = Constables.lean(Constables.describeConstable(Map.of("x", 7, "y", 8, "z", 9)).orElseThrow());
+    final ConstantDesc mapDescription = Constables.redescribeConstable(map, bogusMap, map).orElseThrow();
+    assertEquals(Constables.lean(Constables.describeConstable(map).orElseThrow()), mapDescription);
+    assertEquals(map, mapDescription.resolveConstantDesc(MethodHandles.lookup()));
+  }
+
+  @Test
+  final void testEqualButDifferentlyOrderedOrTypedElementsAreNotShared() throws ReflectiveOperationException {
+    final Lookup lookup = MethodHandles.lookup();
+    final SortedSet<String> natural = new TreeSet<>(List.of("a", "b"));
+    final SortedSet<String> reversed = new TreeSet<>(Comparator.reverseOrder());
+    reversed.addAll(natural);
+    final Set<String> unsorted = new HashSet<>(natural);
+    assertEquals(natural, reversed);
+    assertEquals(natural, unsorted);
+
+    final List<Set<String>> previous = List.of(natural, Set.of("x"), Set.of("y"));
+    final ConstantDesc previousDescription = Constables.describeConstable(previous).orElseThrow();
+    for (final Set<String> replacement : List.of(reversed, unsorted)) {
+      final List<Set<String>> elements = List.of(replacement, Set.of("x"), Set.of("y"));
+      final List<?> result =
+        (List<?>)Constables.redescribeConstable(previous, previousDescription, elements).orElseThrow().resolveConstantDesc(lookup);
+      assertEquals(replacement, result.get(0));
+      if (replacement instanceof SortedSet<String> ss) {
+        assertEquals(ss.comparator(), ((SortedSet<?>)result.get(0)).comparator());
+      } else {
+        assertFalse(result.get(0) instanceof SortedSet);
+      }
+    }
+
+    final Map<String, SortedSet<String>> previousMap = Map.of("k", natural, "l", new TreeSet<>(Set.of("z")));
+    final ConstantDesc previousMapDescription = Constables.describeConstable(previousMap).orElseThrow();
+    final Map<?, ?> map =
+      (Map<?, ?>)Constables.redescribeConstable(previousMap, previousMapDescription, Map.of("k", reversed, "l", new TreeSet<>(Set.of("z"))))
+      .orElseThrow()
+      .resolveConstantDesc(lookup);
+    assertEquals(Comparator.reverseOrder(), ((SortedSet<?>)map.get("k")).comparator());
+  }
+
+  private static final <T> Function<T, Optional<? extends ConstantDesc>> counting(final AtomicInteger calls) {
+    return t -> {
+      calls.incrementAndGet();
+      return Constables.describeConstable(t);
+    };
+  }
+
+}
@@ -0,0 +1,497 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.lang.annotation.RetentionPolicy;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.Constable;
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DynamicConstantDesc;
+
+import java.lang.reflect.Method;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Allocation, node count and scaling regression tests for the describing methods of Constables. Each scenario describes
+// inputs of a small and a large size (eight times larger by default). The per-element node count and allocation
+// (measured with com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes(); where that is unavailable the
+// allocation test is skipped) at the large size, and the growth in allocation from the small size to the large size,
+// must not exceed the thresholds in regression-thresholds.properties alongside this class. These measurements do not
+// depend on timing, so they are made in every build; allocation measurements are also written to
+// ${project.build.directory}/regression-allocations.txt. The growth in elapsed time is noisy, so it is checked only
+// when the org.microbean.constant.regressions.timing system property is true, e.g. with mvn -Ptiming verify. When a
+// change legitimately alters these numbers, update that file in the same commit; the failure message reports every
+// measurement.
+final class TestRegressions {
+
+  private static final Map<String, IntFunction<Supplier<? extends ConstantDesc>>> SCENARIOS = scenarios();
+
+  private TestRegressions() {
+    super();
+  }
+
+  @Test
+  final void testNodeCounts() throws IOException {
+    final Properties thresholds = thresholds();
+    final int large = Integer.parseInt(thresholds.getProperty("size.large"));
+    final List<String> failures = new ArrayList<>();
+    final List<String> measurements = new ArrayList<>();
+    for (final Map.Entry<String, IntFunction<Supplier<? extends ConstantDesc>>> e : SCENARIOS.entrySet()) {
+      final String name = e.getKey();
+      final double nodesPerElement = (double)nodes(e.getValue().apply(large).get()) / large;
+      measurements.add(String.format("%s: nodesPerElement=%.2f", name, nodesPerElement));
+      check(failures, thresholds, name + ".nodesPerElement", nodesPerElement);
+    }
+    assertTrue(failures.isEmpty(), () -> String.join("\n", failures) + "\n\nMeasurements:\n" + String.join("\n", measurements));
+  }
+
+  @Test
+  final void testAllocations() throws IOException {
+    // Without the (HotSpot-specific, and possibly disabled) per-thread allocation counter, report this test as skipped
+    // rather than let it pass without checking anything.
+    assumeTrue(allocatedBytes() >= 0L, "The current thread's allocated bytes cannot be measured on this JVM");
+    final Properties thresholds = thresholds();
+    final int small = Integer.parseInt(thresholds.getProperty("size.small"));
+    final int large = Integer.parseInt(thresholds.getProperty("size.large"));
+    final int warmups = Integer.parseInt(thresholds.getProperty("warmups"));
+    final int runs = Integer.parseInt(thresholds.getProperty("runs"));
+    final double maxAllocationRatio = Double.parseDouble(thresholds.getProperty("scaling.allocationRatio"));
+    final List<String> failures = new ArrayList<>();
+    final List<String> measurements = new ArrayList<>();
+    for (final Map.Entry<String, IntFunction<Supplier<? extends ConstantDesc>>> e : SCENARIOS.entrySet()) {
+      final String name = e.getKey();
+      final Supplier<? extends ConstantDesc> smallScenario = e.getValue().apply(small);
+      final Supplier<? extends ConstantDesc> largeScenario = e.getValue().apply(large);
+      warm(smallScenario, largeScenario, warmups);
+      final long smallBytes = measure(smallScenario, runs)[0];
+      final long largeBytes = measure(largeScenario, runs)[0];
+      final double bytesPerElement = (double)largeBytes / large;
+      final double allocationRatio = (double)largeBytes / Math.max(1L, smallBytes);
+      measurements.add(String.format("%s: bytesPerElement=%.1f allocationRatio=%.2f", name, bytesPerElement, allocationRatio));
+      check(failures, thresholds, name + ".bytesPerElement", bytesPerElement);
+      if (allocationRatio > maxAllocationRatio) {
+        failures.add(name + ": allocation grew " + allocationRatio + "x > " + maxAllocationRatio + "x");
+      }
+    }
+    // Allocation depends on the JDK, so every run's measurements are kept, labeled with the JDK that made them, for
+    // re-baselining.
+    Files.createDirectories(TestStartup.buildDirectory());
+    Files.writeString(TestStartup.buildDirectory().resolve("regression-allocations.txt"),
+                      "# " + System.getProperty("java.vm.name") + " " + Runtime.version() + "\n" + String.join("\n", measurements) + "\n",
+                      StandardCharsets.UTF_8);
+    assertTrue(failures.isEmpty(), () -> String.join("\n", failures) + "\n\nMeasurements (" + Runtime.version() + "):\n" + String.join("\n", measurements));
+  }
+
+  @EnabledIfSystemProperty(named = "org.microbean.constant.regressions.timing", matches = "true")
+  @Test
+  final void testTimeScaling() throws IOException {
+    final Properties thresholds = thresholds();
+    final int small = Integer.parseInt(thresholds.getProperty("size.small"));
+    final int large = Integer.parseInt(thresholds.getProperty("size.large"));
+    final int warmups = Integer.parseInt(thresholds.getProperty("warmups"));
+    final int runs = Integer.parseInt(thresholds.getProperty("runs"));
+    final double maxTimeRatio = Double.parseDouble(thresholds.getProperty("scaling.timeRatio"));
+    final List<String> failures = new ArrayList<>();
+    final List<String> measurements = new ArrayList<>();
+    for (final Map.Entry<String, IntFunction<Supplier<? extends ConstantDesc>>> e : SCENARIOS.entrySet()) {
+      final String name = e.getKey();
+      final Supplier<? extends ConstantDesc> smallScenario = e.getValue().apply(small);
+      final Supplier<? extends ConstantDesc> largeScenario = e.getValue().apply(large);
+      warm(smallScenario, largeScenario, warmups);
+      final double timeRatio = (double)measure(largeScenario, runs)[1] / Math.max(1L, measure(smallScenario, runs)[1]);
+      measurements.add(String.format("%s: timeRatio=%.2f", name, timeRatio));
+      if (timeRatio > maxTimeRatio) {
+        failures.add(name + ": time grew " + timeRatio + "x > " + maxTimeRatio + "x");
+      }
+    }
+    assertTrue(failures.isEmpty(), () -> String.join("\n", failures) + "\n\nMeasurements:\n" + String.join("\n", measurements));
+  }
+
+  private static final Properties thresholds() throws IOException {
+    final Properties thresholds = new Properties();
+    try (final InputStream is = TestRegressions.class.getResourceAsStream("regression-thresholds.properties")) {
+      thresholds.load(is);
+    }
+    return thresholds;
+  }
+
+  private static final void warm(final Supplier<? extends ConstantDesc> smallScenario,
+                                 final Supplier<? extends ConstantDesc> largeScenario,
+                                 final int warmups) {
+    for (int i = 0; i < warmups; i++) {
+      smallScenario.get();
+      largeScenario.get();
+    }
+  }
+
+  private static final void check(final List<String> failures, final Properties thresholds, final String key, final double value) {
+    final String threshold = thresholds.getProperty(key);
+    if (threshold == null) {
+      failures.add(key + ": no threshold");
+    } else if (value > Double.parseDouble(threshold)) {
+      failures.add(key + ": " + value + " > " + threshold);
+    }
+  }
+
+  // Returns the minimum bytes allocated and the minimum elapsed nanoseconds over the supplied number of runs.
+  private static final long[] measure(final Supplier<? extends ConstantDesc> scenario, final int runs) {
+    long bytes = Long.MAX_VALUE;
+    long nanos = Long.MAX_VALUE;
+    final long overhead = allocatedBytesOverhead();
+    for (int i = 0; i < runs; i++) {
+      final long startBytes = allocatedBytes();
+      final long start = System.nanoTime();
+      final ConstantDesc cd = scenario.get();
+      final long elapsed = System.nanoTime() - start;
+      final long allocated = allocatedBytes() - startBytes - overhead;
+      if (cd == null) {
+        throw new AssertionError();
+      }
+      bytes = Math.min(bytes, allocated);
+      nanos = Math.min(nanos, elapsed);
+    }
+    return new long[] { bytes, nanos };
+  }
+
+  // Returns the number of DynamicConstantDescs in the tree rooted at cd, counting shared ones once per occurrence.
+  private static final long nodes(final ConstantDesc cd) {
+    long nodes = 0L;
+    if (cd instanceof DynamicConstantDesc<?> dcd) {
+      ++nodes;
+      for (final ConstantDesc arg : dcd.bootstrapArgs()) {
+        nodes += nodes(arg);
+      }
+    }
+    return nodes;
+  }
+
+  // The ThreadMXBean is not in java.base, which is the only module org.microbean.constant reads, so it is reached
+  // reflectively.  Returns -1 if the current thread's allocated bytes cannot be measured.
+  private static final long allocatedBytes() {
+    return ThreadAllocation.METHOD == null ? -1L : ThreadAllocation.allocatedBytes();
+  }
+
+  private static final long allocatedBytesOverhead() {
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < 10; i++) {
+      final long start = allocatedBytes();
+      overhead = Math.min(overhead, allocatedBytes() - start);
+    }
+    return overhead;
+  }
+
+  private static final Map<String, IntFunction<Supplier<? extends ConstantDesc>>> scenarios() {
+    final Map<String, IntFunction<Supplier<? extends ConstantDesc>>> m = new LinkedHashMap<>();
+    m.put("object", n -> {
+        final List<Object> l = strings(n);
+        return () -> Constables.describeConstable((Object)l).orElseThrow();
+      });
+    m.put("collection", n -> {
+        final Collection<?> c = strings(n);
+        return () -> Constables.describeConstable(c).orElseThrow();
+      });
+    m.put("collectionWithFunctions", n -> {
+        final Collection<StringBuilder> c = builders(n);
+        return () -> Constables.describeConstable(c, TestRegressions::describeComparator, TestRegressions::describeBuilder).orElseThrow();
+      });
+    m.put("list", n -> {
+        final List<?> l = strings(n);
+        return () -> Constables.describeConstable(l).orElseThrow();
+      });
+    m.put("listWithNulls", n -> {
+        final List<Object> l = strings(n);
+        l.set(0, null);
+        return () -> Constables.describeConstable(l).orElseThrow();
+      });
+    m.put("listWithFunction", n -> {
+        final List<StringBuilder> l = builders(n);
+        return () -> Constables.describeConstable(l, TestRegressions::describeBuilder).orElseThrow();
+      });
+    m.put("set", n -> {
+        final Set<?> s = new HashSet<>(strings(n));
+        return () -> Constables.describeConstable(s).orElseThrow();
+      });
+    m.put("setWithFunction", n -> {
+        final Set<StringBuilder> s = new HashSet<>(builders(n));
+        return () -> Constables.describeConstable(s, TestRegressions::describeBuilder).orElseThrow();
+      });
+    m.put("sortedSet", n -> {
+        final Set<String> s = new TreeSet<>(Comparator.reverseOrder());
+        for (final Object o : strings(n)) {
+          s.add((String)o);
+        }
+        return () -> Constables.describeConstable(s, TestRegressions::describeComparator, TestRegressions::describeObject).orElseThrow();
+      });
+    m.put("map", n -> {
+        final Map<?, ?> map = map(n, new HashMap<>());
+        return () -> Constables.describeConstable(map).orElseThrow();
+      });
+    m.put("mapWithFunctions", n -> {
+        final Map<StringBuilder, StringBuilder> map = new HashMap<>();
+        for (final StringBuilder sb : builders(n)) {
+          map.put(sb, sb);
+        }
+        return () -> Constables.describeConstable(map, TestRegressions::describeBuilder, TestRegressions::describeBuilder).orElseThrow();
+      });
+    m.put("sortedMap", n -> {
+        final Map<Object, Object> map = map(n, new TreeMap<>(Collections.reverseOrder()));
+        final Function<Object, Optional<? extends ConstantDesc>> f = TestRegressions::describeObject;
+        // A type witness is needed to disambiguate this from describeConstable(K, V, Function, Function).
+        return () -> Constables.<Object, Object>describeConstable(map, TestRegressions::describeComparator, f, f).orElseThrow();
+      });
+    m.put("entries", n -> {
+        final List<Object> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+          l.add(i % 2 == 0 ? Map.entry("k" + i, "v" + i) : new SimpleImmutableEntry<>("k" + i, null));
+        }
+        return () -> Constables.describeConstable(l).orElseThrow();
+      });
+    m.put("entriesWithFunctions", n -> {
+        final List<Map.Entry<StringBuilder, StringBuilder>> l = new ArrayList<>(n);
+        for (final StringBuilder sb : builders(n)) {
+          l.add(Map.entry(sb, sb));
+        }
+        return () -> Constables.describeConstable(l, TestRegressions::describeBuilderEntry).orElseThrow();
+      });
+    m.put("optionals", n -> {
+        final List<Object> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+          l.add(i % 2 == 0 ? Optional.of("v" + i) : Optional.empty());
+        }
+        return () -> Constables.describeConstable(l).orElseThrow();
+      });
+    m.put("optionalsWithFunction", n -> {
+        final List<StringBuilder> builders = builders(n);
+        final List<Optional<StringBuilder>> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+          l.add(i % 2 == 0 ? Optional.of(builders.get(i)) : Optional.empty());
+        }
+        return () -> Constables.describeConstable(l, TestRegressions::describeBuilderOptional).orElseThrow();
+      });
+    m.put("values", n -> {
+        final List<Object> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+          l.add(value(i));
+        }
+        return () -> Constables.describeConstable(l).orElseThrow();
+      });
+    m.put("constantDescs", n -> {
+        final List<ConstantDesc> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+          l.add(i % 2 == 0 ? "e" + i : ClassDesc.of("e" + i));
+        }
+        return () -> Constables.describeConstable(l, TestRegressions::describeConstantDesc).orElseThrow();
+      });
+    m.put("constables", n -> {
+        final List<Constable> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+          l.add(i % 2 == 0 ? Integer.valueOf(i) : RetentionPolicy.values()[i % 3]);
+        }
+        return () -> Constables.describeConstable(l, TestRegressions::describeConstable).orElseThrow();
+      });
+    m.put("lean", n -> {
+        final ConstantDesc cd = Constables.describeConstable(map(n, new HashMap<>())).orElseThrow();
+        return () -> Constables.lean(cd);
+      });
+    m.put("redescribe", n -> {
+        final Map<Object, Object> previous = map(n, new HashMap<>());
+        final ConstantDesc previousDescription = Constables.describeConstable(previous).orElseThrow();
+        final Map<Object, Object> map = new HashMap<>(previous);
+        map.put("k0", "changed");
+        return () -> Constables.redescribeConstable(previous, previousDescription, map).orElseThrow();
+      });
+    m.put("redescribeCollection", n -> {
+        final List<Object> previous = new ArrayList<>(n);
+        for (final Object o : strings(n)) {
+          previous.add(Optional.of(o));
+        }
+        final ConstantDesc previousDescription = Constables.describeConstable(previous).orElseThrow();
+        final List<Object> elements = new ArrayList<>(previous);
+        elements.set(0, Optional.of("changed"));
+        return () -> Constables.redescribeConstable(previous, previousDescription, elements).orElseThrow();
+      });
+    return m;
+  }
+
+  private static final List<Object> strings(final int n) {
+    final List<Object> l = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      l.add("e" + i);
+    }
+    return l;
+  }
+
+  private static final List<StringBuilder> builders(final int n) {
+    final List<StringBuilder> l = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      l.add(new StringBuilder("e").append(i));
+    }
+    return l;
+  }
+
+  private static final Map<Object, Object> map(final int n, final Map<Object, Object> map) {
+    for (int i = 0; i < n; i++) {
+      map.put("k" + i, "v" + i);
+    }
+    return map;
+  }
+
+  private static final Object value(final int i) {
+    switch (i % 13) {
+    case 0:
+      return new UUID(i, -i);
+    case 1:
+      return BigInteger.valueOf(i);
+    case 2:
+      return BigDecimal.valueOf(i, 2);
+    case 3:
+      return Duration.ofSeconds(i, i);
+    case 4:
+      return Instant.ofEpochSecond(i, i);
+    case 5:
+      return LocalDate.ofEpochDay(i);
+    case 6:
+      return LocalTime.ofSecondOfDay(i % 86_400);
+    case 7:
+      return LocalDateTime.of(2026, 1, 1, 0, 0, i % 60);
+    case 8:
+      return OffsetTime.of(LocalTime.ofSecondOfDay(i % 86_400), ZoneOffset.ofHours(i % 18));
+    case 9:
+      return OffsetDateTime.of(2026, 1, 1, 0, 0, i % 60, 0, ZoneOffset.UTC);
+    case 10:
+      return ZoneOffset.ofTotalSeconds(i % 64_800);
+    case 11:
+      return Period.of(i, 1, 2);
+    default:
+      return Comparator.reverseOrder();
+    }
+  }
+
+  private static final Optional<? extends ConstantDesc> describeBuilder(final StringBuilder sb) {
+    return Optional.of(sb.toString());
+  }
+
+  // Each of the following calls a particular overload of Constables#describeConstable.
+
+  private static final Optional<? extends ConstantDesc> describeBuilderEntry(final Map.Entry<StringBuilder, StringBuilder> e) {
+    return Constables.describeConstable(e, TestRegressions::describeBuilder, TestRegressions::describeBuilder);
+  }
+
+  private static final Optional<? extends ConstantDesc> describeBuilderOptional(final Optional<StringBuilder> o) {
+    return Constables.describeConstable(o, TestRegressions::describeBuilder);
+  }
+
+  private static final Optional<? extends ConstantDesc> describeConstantDesc(final ConstantDesc cd) {
+    return Constables.describeConstable(cd);
+  }
+
+  private static final Optional<? extends ConstantDesc> describeConstable(final Constable c) {
+    return Constables.describeConstable(c);
+  }
+
+  private static final Optional<? extends ConstantDesc> describeComparator(final Comparator<?> c) {
+    return Constables.describeConstable(c);
+  }
+
+  private static final Optional<? extends ConstantDesc> describeObject(final Object o) {
+    return Constables.describeConstable(o);
+  }
+
+  private static final class ThreadAllocation {
+
+    private static final Object BEAN;
+
+    private static final Method METHOD;
+
+    static {
+      Object bean = null;
+      Method method = null;
+      try {
+        final Class<?> c = Class.forName("com.sun.management.ThreadMXBean");
+        bean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+        if (c.isInstance(bean) &&
+            (Boolean)c.getMethod("isThreadAllocatedMemorySupported").invoke(bean) &&
+            (Boolean)c.getMethod("isThreadAllocatedMemoryEnabled").invoke(bean)) {
+          method = c.getMethod("getCurrentThreadAllocatedBytes");
+        }
+      } catch (final ReflectiveOperationException | RuntimeException | LinkageError e) {
+        method = null;
+      }
+      BEAN = bean;
+      METHOD = method;
+    }
+
+    private ThreadAllocation() {
+      super();
+    }
+
+    private static final long allocatedBytes() {
+      try {
+        return (Long)METHOD.invoke(BEAN);
+      } catch (final ReflectiveOperationException e) {
+        throw new AssertionError(e.getMessage(), e);
+      }
+    }
+
+  }
+
+}
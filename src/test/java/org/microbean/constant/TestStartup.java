@@ -0,0 +1,261 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2026 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.constant;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import java.lang.constant.ConstantDesc;
+import java.lang.constant.DynamicConstantDesc;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Cold-start benchmarks. Run with mvn -Pstartup verify. For each shape, size and encoding, forks fresh JVMs that obtain
+// the same value either by resolving a dynamic constant described by Constables ("condy"), by resolving the same
+// description after Constables.lean(ConstantDesc) ("lean"), by building it in a static initializer ("clinit"), or by
+// deserializing it ("serialized"). Results are written to
+// ${project.build.directory}/startup-benchmarks.json.
+@EnabledIfSystemProperty(named = "org.microbean.constant.startup", matches = "true")
+final class TestStartup {
+
+  static final String CONDY_HOLDER = "org.microbean.constant.CondyHolder";
+
+  private static final String PREFIX = "org.microbean.constant.startup.";
+
+  private TestStartup() {
+    super();
+  }
+
+  @Test
+  final void testStartup() throws IOException, InterruptedException {
+    final List<String> shapes = List.of(System.getProperty(PREFIX + "shapes", "list,set,map,sortedMap").split(","));
+    final int[] sizes =
+      Arrays.stream(System.getProperty(PREFIX + "sizes", "10,100,1000,10000").split(",")).mapToInt(Integer::parseInt).toArray();
+    final int runs = Integer.getInteger(PREFIX + "runs", 5);
+    final Path directory = Files.createDirectories(buildDirectory().resolve("startup"));
+    final List<String> results = new ArrayList<>();
+    for (final String shape : shapes) {
+      for (final int size : sizes) {
+        final Object value = StartupProbe.value(shape, size);
+        final Map<String, String> hashes = new HashMap<>();
+        for (final Encoding encoding : Encoding.values()) {
+          final Path scenario = Files.createDirectories(directory.resolve(shape + "-" + size + "-" + encoding.id()));
+          final List<String> probeArgs = new ArrayList<>();
+          final int bootstraps = encoding.prepare(value, scenario, probeArgs);
+          final long[] ready = new long[runs];
+          final long[] launchToReady = new long[runs];
+          final long[] heap = new long[runs];
+          for (int run = 0; run < runs; run++) {
+            final Map<String, String> m = fork(scenario, shape, size, probeArgs);
+            ready[run] = Long.parseLong(m.get("ready"));
+            launchToReady[run] = Long.parseLong(m.get("launchToReady"));
+            heap[run] = Long.parseLong(m.get("heap"));
+            hashes.put(encoding.id(), m.get("hash"));
+          }
+          results.add("    {\"shape\": \"" + shape + "\"" +
+                      ", \"size\": " + size +
+                      ", \"encoding\": \"" + encoding.id() + "\"" +
+                      ", \"runs\": " + runs +
+                      ", \"bootstraps\": " + bootstraps +
+                      ", \"classLoadToReadyNanos\": " + median(ready) +
+                      ", \"launchToReadyNanos\": " + median(launchToReady) +
+                      ", \"heapAfterInitBytes\": " + median(heap) +
+                      "}");
+        }
+        // Every encoding must have produced the same value.
+        assertEquals(1, new LinkedHashSet<>(hashes.values()).size(), hashes.toString());
+      }
+    }
+    final Path report = buildDirectory().resolve("startup-benchmarks.json");
+    Files.writeString(report,
+                      "{\n" +
+                      "  \"java.version\": \"" + System.getProperty("java.version") + "\",\n" +
+                      "  \"java.vm.name\": \"" + System.getProperty("java.vm.name") + "\",\n" +
+                      "  \"results\": [\n" + String.join(",\n", results) + "\n  ]\n" +
+                      "}\n",
+                      StandardCharsets.UTF_8);
+  }
+
+  static final Path buildDirectory() {
+    return Path.of(System.getProperty("project.build.directory", "target"));
+  }
+
+  // The classpath for forked JVMs. Under Surefire our classes may be on the module path; in the forked JVM everything
+  // goes on the classpath.
+  static final String classpath(final Path scenario) {
+    final Set<String> entries = new LinkedHashSet<>();
+    entries.add(scenario.toString());
+    entries.addAll(classpathEntries());
+    return String.join(File.pathSeparator, entries);
+  }
+
+  static final Set<String> classpathEntries() {
+    final Set<String> entries = new LinkedHashSet<>();
+    for (final String p : new String[] {
+        System.getProperty("project.build.testOutputDirectory"),
+        System.getProperty("project.build.outputDirectory"),
+        System.getProperty("jdk.module.path"),
+        System.getProperty("java.class.path")
+      }) {
+      if (p != null && !p.isEmpty()) {
+        entries.addAll(List.of(p.split(File.pathSeparator)));
+      }
+    }
+    return entries;
+  }
+
+  static final String java() {
+    return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+  }
+
+  private static final Map<String, String> fork(final Path scenario, final String shape, final int size, final List<String> probeArgs)
+    throws IOException, InterruptedException {
+    final List<String> command = new ArrayList<>();
+    command.add(java());
+    command.add("-cp");
+    command.add(classpath(scenario));
+    command.add("-D" + StartupProbe.SHAPE_PROPERTY + "=" + shape);
+    command.add("-D" + StartupProbe.SIZE_PROPERTY + "=" + size);
+    final long launch = System.nanoTime();
+    command.add("-D" + StartupProbe.LAUNCH_PROPERTY + "=" + launch);
+    command.add(StartupProbe.class.getName());
+    command.addAll(probeArgs);
+    return parse(run(command));
+  }
+
+  static final String run(final List<String> command) throws IOException, InterruptedException {
+    final Process p = new ProcessBuilder(command).redirectErrorStream(true).start();
+    final StringBuilder output = new StringBuilder();
+    try (final BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = r.readLine()) != null) {
+        output.append(line).append('\n');
+      }
+    }
+    assertEquals(0, p.waitFor(), () -> String.join(" ", command) + "\n" + output);
+    return output.toString();
+  }
+
+  static final Map<String, String> parse(final String output) {
+    final Map<String, String> m = new HashMap<>();
+    for (final String line : output.split("\n")) {
+      if (line.startsWith("ready=")) {
+        for (final String pair : line.split(" ")) {
+          final int equals = pair.indexOf('=');
+          m.put(pair.substring(0, equals), pair.substring(equals + 1));
+        }
+      }
+    }
+    return m;
+  }
+
+  static final long median(final long[] values) {
+    final long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  static final int writeCondyHolder(final Object value, final Path directory, final boolean lean) throws IOException {
+    final ConstantDesc cd = Constables.describeConstable(value).orElseThrow();
+    final DynamicConstantDesc<?> description = (DynamicConstantDesc<?>)(lean ? Constables.lean(cd) : cd);
+    final CondyClassWriter w = new CondyClassWriter();
+    final byte[] bytes = w.write(CONDY_HOLDER, description);
+    final Path file = directory.resolve(CONDY_HOLDER.replace('.', '/') + ".class");
+    Files.createDirectories(file.getParent());
+    Files.write(file, bytes);
+    return w.dynamicConstantCount();
+  }
+
+  private enum Encoding {
+
+    CONDY("condy") {
+      @Override
+      final int prepare(final Object value, final Path scenario, final List<String> probeArgs) throws IOException {
+        final int bootstraps = writeCondyHolder(value, scenario, false);
+        probeArgs.add("condy");
+        probeArgs.add(CONDY_HOLDER);
+        return bootstraps;
+      }
+    },
+
+    LEAN("lean") {
+      @Override
+      final int prepare(final Object value, final Path scenario, final List<String> probeArgs) throws IOException {
+        final int bootstraps = writeCondyHolder(value, scenario, true);
+        probeArgs.add("condy");
+        probeArgs.add(CONDY_HOLDER);
+        return bootstraps;
+      }
+    },
+
+    CLINIT("clinit") {
+      @Override
+      final int prepare(final Object value, final Path scenario, final List<String> probeArgs) {
+        probeArgs.add("clinit");
+        return 0;
+      }
+    },
+
+    SERIALIZED("serialized") {
+      @Override
+      final int prepare(final Object value, final Path scenario, final List<String> probeArgs) throws IOException {
+        final Path file = scenario.resolve("value.ser");
+        try (final OutputStream os = Files.newOutputStream(file);
+             final ObjectOutputStream oos = new ObjectOutputStream(os)) {
+          oos.writeObject(value);
+        }
+        probeArgs.add("serialized");
+        probeArgs.add(file.toString());
+        return 0;
+      }
+    };
+
+    private final String id;
+
+    Encoding(final String id) {
+      this.id = id;
+    }
+
+    final String id() {
+      return this.id;
+    }
+
+    // Prepares the scenario directory and the arguments for StartupProbe; returns the number of bootstrap method
+    // invocations needed to produce the value.
+    abstract int prepare(final Object value, final Path scenario, final List<String> probeArgs) throws IOException;
+
+  }
+
+}